@@ -0,0 +1,109 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
+
+/**
+ * Benchmark for invoking an advised method through an AOP proxy, compared
+ * with the ways in which the target method itself could be invoked at the
+ * end of the interceptor chain.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ProxyInvocationBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"jdk", "cglib"})
+		public String proxyType;
+
+		public Greeter target;
+
+		public Greeter proxy;
+
+		public Method method;
+
+		public MethodHandle methodHandle;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.target = new SimpleGreeter();
+			ProxyFactory proxyFactory = new ProxyFactory(this.target);
+			proxyFactory.setProxyTargetClass("cglib".equals(this.proxyType));
+			// Method-specific pointcut, so that the per-method advice chain cache is used
+			NameMatchMethodPointcutAdvisor advisor =
+					new NameMatchMethodPointcutAdvisor((MethodInterceptor) invocation -> invocation.proceed());
+			advisor.setMappedName("greet");
+			proxyFactory.addAdvisor(advisor);
+			this.proxy = (Greeter) proxyFactory.getProxy();
+			this.method = Greeter.class.getMethod("greet", String.class);
+			this.methodHandle = MethodHandles.publicLookup().unreflect(this.method);
+		}
+	}
+
+	@Benchmark
+	public void proxyInvocation(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.proxy.greet("Spring"));
+	}
+
+	@Benchmark
+	public void directInvocation(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.target.greet("Spring"));
+	}
+
+	@Benchmark
+	public void reflectiveInvocation(BenchmarkState state, Blackhole bh) throws Exception {
+		bh.consume(state.method.invoke(state.target, "Spring"));
+	}
+
+	@Benchmark
+	public void methodHandleInvocation(BenchmarkState state, Blackhole bh) throws Throwable {
+		bh.consume((String) state.methodHandle.invoke(state.target, "Spring"));
+	}
+
+
+	public interface Greeter {
+
+		String greet(String name);
+	}
+
+
+	public static class SimpleGreeter implements Greeter {
+
+		@Override
+		public String greet(String name) {
+			return "Hello " + name;
+		}
+	}
+
+}
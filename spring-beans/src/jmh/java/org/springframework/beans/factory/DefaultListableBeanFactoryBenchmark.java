@@ -16,6 +16,8 @@
 
 package org.springframework.beans.factory;
 
+import java.util.function.Supplier;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -30,6 +32,7 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.ResolvableType;
 
 /**
  * Benchmark for retrieving various bean types from the {@link DefaultListableBeanFactory}.
@@ -133,10 +136,57 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class ManyBeanDefinitionsState extends Shared {
+
+		@Param({"5000"})
+		public int beanCount;
+
+		@Param({"true", "false"})
+		public boolean frozen;
+
+		public ResolvableType genericType = ResolvableType.forClassWithGenerics(Supplier.class, String.class);
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				this.beanFactory.registerBeanDefinition("a" + i, new RootBeanDefinition(A.class));
+			}
+			this.beanFactory.registerBeanDefinition("supplier", new RootBeanDefinition(StringSupplier.class));
+			if (this.frozen) {
+				this.beanFactory.freezeConfiguration();
+			}
+		}
+	}
+
+	@Benchmark
+	public Object beanNamesForTypeManyBeans(ManyBeanDefinitionsState state) {
+		return state.beanFactory.getBeanNamesForType(B.class);
+	}
+
+	@Benchmark
+	public Object beanNamesForGenericTypeManyBeans(ManyBeanDefinitionsState state) {
+		return state.beanFactory.getBeanNamesForType(state.genericType);
+	}
+
+	@Benchmark
+	public Object beanProviderStreamManyBeans(ManyBeanDefinitionsState state) {
+		return state.beanFactory.getBeanProvider(state.genericType).stream().count();
+	}
+
 	static class A {
 	}
 
 	static class B {
 	}
 
+	static class StringSupplier implements Supplier<String> {
+
+		@Override
+		public String get() {
+			return "value";
+		}
+	}
+
 }
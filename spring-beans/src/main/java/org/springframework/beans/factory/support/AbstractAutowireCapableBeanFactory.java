@@ -24,9 +24,11 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -1887,35 +1889,50 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws Throwable {
 
 		Class<?> beanClass = bean.getClass();
-		MethodDescriptor descriptor = MethodDescriptor.create(beanName, beanClass, initMethodName);
-		String methodName = descriptor.methodName();
-
-		Method initMethod = (mbd.isNonPublicAccessAllowed() ?
-				BeanUtils.findMethod(descriptor.declaringClass(), methodName) :
-				ClassUtils.getMethodIfAvailable(beanClass, methodName));
-
-		if (initMethod == null) {
-			if (mbd.isEnforceInitMethod()) {
-				throw new BeanDefinitionValidationException("Could not find an init method named '" +
-						methodName + "' on bean with name '" + beanName + "'");
-			}
-			else {
-				if (logger.isTraceEnabled()) {
-					logger.trace("No default init method named '" + methodName +
-							"' found on bean with name '" + beanName + "'");
+		// Reuse the init method resolved for a previous instance of the bean class, if any,
+		// avoiding repeated reflective lookups for prototype and scoped beans.
+		boolean cacheable = (mbd.hasBeanClass() && mbd.getBeanClass() == beanClass);
+		Map<String, Method> resolvedInitMethods = (cacheable ? mbd.resolvedInitMethods : null);
+		Method methodToInvoke = (resolvedInitMethods != null ? resolvedInitMethods.get(initMethodName) : null);
+
+		if (methodToInvoke == null) {
+			MethodDescriptor descriptor = MethodDescriptor.create(beanName, beanClass, initMethodName);
+			String methodName = descriptor.methodName();
+
+			Method initMethod = (mbd.isNonPublicAccessAllowed() ?
+					BeanUtils.findMethod(descriptor.declaringClass(), methodName) :
+					ClassUtils.getMethodIfAvailable(beanClass, methodName));
+
+			if (initMethod == null) {
+				if (mbd.isEnforceInitMethod()) {
+					throw new BeanDefinitionValidationException("Could not find an init method named '" +
+							methodName + "' on bean with name '" + beanName + "'");
+				}
+				else {
+					if (logger.isTraceEnabled()) {
+						logger.trace("No default init method named '" + methodName +
+								"' found on bean with name '" + beanName + "'");
+					}
+					// Ignore non-existent default lifecycle methods.
+					return;
 				}
-				// Ignore non-existent default lifecycle methods.
-				return;
+			}
+
+			methodToInvoke = ClassUtils.getPubliclyAccessibleMethodIfPossible(initMethod, beanClass);
+			ReflectionUtils.makeAccessible(methodToInvoke);
+			if (cacheable) {
+				Map<String, Method> updatedInitMethods =
+						(resolvedInitMethods != null ? new HashMap<>(resolvedInitMethods) : new HashMap<>(2));
+				updatedInitMethods.put(initMethodName, methodToInvoke);
+				mbd.resolvedInitMethods = updatedInitMethods;
 			}
 		}
 
 		if (logger.isTraceEnabled()) {
-			logger.trace("Invoking init method '" + methodName + "' on bean with name '" + beanName + "'");
+			logger.trace("Invoking init method '" + methodToInvoke.getName() +
+					"' on bean with name '" + beanName + "'");
 		}
-		Method methodToInvoke = ClassUtils.getPubliclyAccessibleMethodIfPossible(initMethod, beanClass);
-
 		try {
-			ReflectionUtils.makeAccessible(methodToInvoke);
 			methodToInvoke.invoke(bean);
 		}
 		catch (InvocationTargetException ex) {
@@ -25,7 +25,12 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -202,6 +207,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Map of singleton and non-singleton bean names, keyed by generic dependency type. */
+	private final Map<ResolvableType, String[]> allBeanNamesByGenericType = new ConcurrentHashMap<>(16);
+
+	/** Map of singleton-only bean names, keyed by generic dependency type. */
+	private final Map<ResolvableType, String[]> singletonBeanNamesByGenericType = new ConcurrentHashMap<>(16);
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -588,9 +599,92 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		if (resolved != null && !type.hasGenerics()) {
 			return getBeanNamesForType(resolved, includeNonSingletons, allowEagerInit);
 		}
-		else {
+		if (!isConfigurationFrozen() || resolved == null || !allowEagerInit) {
 			return doGetBeanNamesForType(type, includeNonSingletons, allowEagerInit);
 		}
+		ResolvableType cacheKey = getGenericTypeCacheKey(type);
+		if (cacheKey == null) {
+			return doGetBeanNamesForType(type, includeNonSingletons, true);
+		}
+		Map<ResolvableType, String[]> cache =
+				(includeNonSingletons ? this.allBeanNamesByGenericType : this.singletonBeanNamesByGenericType);
+		String[] resolvedBeanNames = cache.get(cacheKey);
+		if (resolvedBeanNames != null) {
+			return resolvedBeanNames;
+		}
+		resolvedBeanNames = doGetBeanNamesForType(type, includeNonSingletons, true);
+		cache.put(cacheKey, resolvedBeanNames);
+		return resolvedBeanNames;
+	}
+
+	/**
+	 * Return the key to cache bean names for the given generic type with, or
+	 * {@code null} if the type is not suitable for caching.
+	 * <p>The key is derived from the underlying {@link Type} only, so that it
+	 * does not retain the field or method parameter that the given type may
+	 * have been obtained from, and is the same for all injection points of
+	 * the same type. Types that depend on type variables resolved against
+	 * their declaring context, or that refer to classes that are not
+	 * cache-safe, are not cached.
+	 */
+	private @Nullable ResolvableType getGenericTypeCacheKey(ResolvableType type) {
+		Type javaType = type.getType();
+		if (hasTypeVariables(javaType) || !isCacheSafe(type)) {
+			return null;
+		}
+		return ResolvableType.forType(javaType);
+	}
+
+	private static boolean hasTypeVariables(Type type) {
+		if (type instanceof TypeVariable<?>) {
+			return true;
+		}
+		if (type instanceof ParameterizedType parameterizedType) {
+			Type ownerType = parameterizedType.getOwnerType();
+			if (ownerType != null && hasTypeVariables(ownerType)) {
+				return true;
+			}
+			for (Type argument : parameterizedType.getActualTypeArguments()) {
+				if (hasTypeVariables(argument)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		if (type instanceof WildcardType wildcardType) {
+			for (Type bound : wildcardType.getUpperBounds()) {
+				if (hasTypeVariables(bound)) {
+					return true;
+				}
+			}
+			for (Type bound : wildcardType.getLowerBounds()) {
+				if (hasTypeVariables(bound)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		if (type instanceof GenericArrayType genericArrayType) {
+			return hasTypeVariables(genericArrayType.getGenericComponentType());
+		}
+		return false;
+	}
+
+	/**
+	 * Determine whether the given generic type and all of its resolved
+	 * generics are cache-safe in the context of this bean factory.
+	 */
+	private boolean isCacheSafe(ResolvableType type) {
+		Class<?> resolved = type.resolve();
+		if (resolved != null && !ClassUtils.isCacheSafe(resolved, getBeanClassLoader())) {
+			return false;
+		}
+		for (ResolvableType generic : type.getGenerics()) {
+			if (!isCacheSafe(generic)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
@@ -1476,6 +1570,11 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		Predicate<Class<?>> filter = (beanType -> beanType != Object.class && beanType.isInstance(singletonObject));
 		this.allBeanNamesByType.keySet().removeIf(filter);
 		this.singletonBeanNamesByType.keySet().removeIf(filter);
+		if (!this.allBeanNamesByGenericType.isEmpty() || !this.singletonBeanNamesByGenericType.isEmpty()) {
+			Predicate<ResolvableType> genericFilter = (beanType -> filter.test(beanType.toClass()));
+			this.allBeanNamesByGenericType.keySet().removeIf(genericFilter);
+			this.singletonBeanNamesByGenericType.keySet().removeIf(genericFilter);
+		}
 
 		if (this.primaryBeanNamesWithType.containsKey(beanName) && singletonObject.getClass() != NullBean.class) {
 			Class<?> beanType = (singletonObject instanceof FactoryBean<?> fb ?
@@ -1544,6 +1643,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		this.allBeanNamesByGenericType.clear();
+		this.singletonBeanNamesByGenericType.clear();
 	}
 
 
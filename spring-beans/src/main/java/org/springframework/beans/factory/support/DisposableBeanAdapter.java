@@ -20,7 +20,9 @@ import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -124,8 +126,19 @@ class DisposableBeanAdapter implements DisposableBean, Runnable, Serializable {
 					(bean instanceof AutoCloseable && CLOSE_METHOD_NAME.equals(destroyMethodNames[0]));
 			if (!this.invokeAutoCloseable) {
 				this.destroyMethodNames = destroyMethodNames;
+				// Reuse the destroy methods resolved for a previous instance of the bean class,
+				// avoiding repeated reflective lookups for prototype and scoped beans.
+				boolean cacheable = (beanDefinition.hasBeanClass() && beanDefinition.getBeanClass() == bean.getClass());
+				Map<String, Method> resolvedDestroyMethods = (cacheable ? beanDefinition.resolvedDestroyMethods : null);
+				Map<String, Method> updatedDestroyMethods = null;
 				List<Method> destroyMethods = new ArrayList<>(destroyMethodNames.length);
 				for (String destroyMethodName : destroyMethodNames) {
+					Method resolvedDestroyMethod =
+							(resolvedDestroyMethods != null ? resolvedDestroyMethods.get(destroyMethodName) : null);
+					if (resolvedDestroyMethod != null) {
+						destroyMethods.add(resolvedDestroyMethod);
+						continue;
+					}
 					Method destroyMethod = determineDestroyMethod(destroyMethodName);
 					if (destroyMethod == null) {
 						if (beanDefinition.isEnforceDestroyMethod()) {
@@ -147,8 +160,18 @@ class DisposableBeanAdapter implements DisposableBean, Runnable, Serializable {
 						}
 						destroyMethod = ClassUtils.getPubliclyAccessibleMethodIfPossible(destroyMethod, bean.getClass());
 						destroyMethods.add(destroyMethod);
+						if (cacheable) {
+							if (updatedDestroyMethods == null) {
+								updatedDestroyMethods = (resolvedDestroyMethods != null ?
+										new HashMap<>(resolvedDestroyMethods) : new HashMap<>(2));
+							}
+							updatedDestroyMethods.put(destroyMethodName, destroyMethod);
+						}
 					}
 				}
+				if (updatedDestroyMethods != null) {
+					beanDefinition.resolvedDestroyMethods = updatedDestroyMethods;
+				}
 				this.destroyMethods = destroyMethods.toArray(Method[]::new);
 			}
 		}
@@ -23,6 +23,7 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -91,6 +92,12 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	/** Package-visible field for caching a resolved destroy method name (also for inferred). */
 	volatile @Nullable String resolvedDestroyMethodName;
 
+	/** Package-visible field for caching resolved init methods by name, for instances of the bean class. */
+	volatile @Nullable Map<String, Method> resolvedInitMethods;
+
+	/** Package-visible field for caching resolved destroy methods by name, for instances of the bean class. */
+	volatile @Nullable Map<String, Method> resolvedDestroyMethods;
+
 	/** Common lock for the four constructor fields below. */
 	final Object constructorArgumentLock = new Object();
 
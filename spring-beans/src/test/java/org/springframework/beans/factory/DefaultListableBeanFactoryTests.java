@@ -2919,6 +2919,22 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.destroyMethods).containsExactly("destroy", "destroy2", "destroy1");
 	}
 
+	@Test
+	void multipleInitAndDestroyMethodsOnPrototype() {
+		RootBeanDefinition bd = new RootBeanDefinition(BeanWithInitAndDestroyMethods.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bd.setInitMethodNames("init1", "init2");
+		bd.setDestroyMethodNames("destroy2", "destroy1");
+		lbf.registerBeanDefinition("test", bd);
+
+		for (int i = 0; i < 3; i++) {
+			BeanWithInitAndDestroyMethods bean = lbf.getBean("test", BeanWithInitAndDestroyMethods.class);
+			assertThat(bean.initMethods).containsExactly("init", "init1", "init2");
+			lbf.destroyBean("test", bean);
+			assertThat(bean.destroyMethods).containsExactly("destroy", "destroy2", "destroy1");
+		}
+	}
+
 	@Test
 	void beanPostProcessorWithWrappedObjectAndDisposableBean() {
 		RootBeanDefinition bd = new RootBeanDefinition(BeanWithDisposableBean.class);
@@ -3263,6 +3279,49 @@ class DefaultListableBeanFactoryTests {
 		assertThat(lbf.getBeanNamesForType(Object.class)).containsExactly(StringUtils.addStringToArray(allBeanNames, "bd3"));
 	}
 
+	@Test
+	void cacheEntryForGenericTypeMatching() {
+		RootBeanDefinition bd1 = new RootBeanDefinition(ArrayList.class);
+		bd1.setTargetType(ResolvableType.forClassWithGenerics(List.class, String.class));
+		lbf.registerBeanDefinition("bd1", bd1);
+		lbf.registerBeanDefinition("bd2", new RootBeanDefinition(NestedTestBean.class));
+		lbf.freezeConfiguration();
+
+		String[] stringListBeanNames = lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(List.class, String.class));
+		assertThat(stringListBeanNames).containsExactly("bd1");
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(List.class, String.class)))
+				.isSameAs(stringListBeanNames);
+
+		lbf.registerSingleton("bd3", new NestedTestBean());
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(List.class, String.class)))
+				.isSameAs(stringListBeanNames);
+
+		lbf.registerSingleton("bd4", new ArrayList<>());
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(List.class, String.class)))
+				.isNotSameAs(stringListBeanNames).contains("bd1");
+	}
+
+	@Test
+	void cacheEntryForGenericTypeSharedAcrossInjectionPoints() throws Exception {
+		RootBeanDefinition bd1 = new RootBeanDefinition(ArrayList.class);
+		bd1.setTargetType(ResolvableType.forClassWithGenerics(List.class, String.class));
+		lbf.registerBeanDefinition("bd1", bd1);
+		lbf.freezeConfiguration();
+
+		ResolvableType firstType = ResolvableType.forField(StringListHolder.class.getDeclaredField("first"));
+		ResolvableType secondType = ResolvableType.forField(StringListHolder.class.getDeclaredField("second"));
+		String[] stringListBeanNames = lbf.getBeanNamesForType(firstType);
+		assertThat(stringListBeanNames).containsExactly("bd1");
+		assertThat(lbf.getBeanNamesForType(secondType)).isSameAs(stringListBeanNames);
+
+		// Type variable resolved against the declaring context -> not cached
+		ResolvableType variableType = ResolvableType.forField(
+				ListTemplate.class.getDeclaredField("values"), StringListTemplate.class);
+		String[] variableBeanNames = lbf.getBeanNamesForType(variableType);
+		assertThat(variableBeanNames).containsExactly("bd1");
+		assertThat(lbf.getBeanNamesForType(variableType)).isNotSameAs(variableBeanNames);
+	}
+
 
 	private int registerBeanDefinitions(Properties p) {
 		return registerBeanDefinitions(p, null);
@@ -3908,4 +3967,22 @@ class DefaultListableBeanFactoryTests {
 
 	}
 
+	@SuppressWarnings("unused")
+	private static class StringListHolder {
+
+		private List<String> first;
+
+		private List<String> second;
+	}
+
+	@SuppressWarnings("unused")
+	private static class ListTemplate<T> {
+
+		private List<T> values;
+	}
+
+	private static class StringListTemplate extends ListTemplate<String> {
+
+	}
+
 }
@@ -51,6 +51,7 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.ExpressionCache;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
@@ -259,6 +260,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	@Override
 	public void afterSingletonsInstantiated() {
+		if (this.beanFactory != null) {
+			// Share the context-wide expression cache, if any
+			this.evaluator.setExpressionCache(this.beanFactory.getBeanProvider(ExpressionCache.class).getIfUnique());
+		}
 		if (getCacheResolver() == null) {
 			// Lazily initialize cache resolver via default cache manager
 			Assert.state(this.beanFactory != null, "CacheResolver or BeanFactory must be set on cache aspect");
@@ -107,11 +107,20 @@ public abstract class AbstractApplicationEventMulticaster
 			// Explicitly remove target for a proxy, if registered already,
 			// in order to avoid double invocations of the same listener.
 			Object singletonTarget = AopProxyUtils.getSingletonTarget(listener);
-			if (singletonTarget instanceof ApplicationListener) {
-				this.defaultRetriever.applicationListeners.remove(singletonTarget);
+			boolean targetRemoved = (singletonTarget instanceof ApplicationListener &&
+					this.defaultRetriever.applicationListeners.remove(singletonTarget));
+			boolean added = this.defaultRetriever.applicationListeners.add(listener);
+			if (added || targetRemoved) {
+				// Only evict the cached retrievers that hold a removed proxy target
+				// or are for event types that the new listener supports, keeping
+				// the ones for unrelated event types.
+				this.retrieverCache.entrySet().removeIf(entry -> {
+					CachedListenerRetriever retriever = entry.getValue();
+					ListenerCacheKey key = entry.getKey();
+					return (!retriever.isPopulated() || (targetRemoved && retriever.contains(singletonTarget)) ||
+							(added && supportsEvent(listener, key.eventType, key.sourceType)));
+				});
 			}
-			this.defaultRetriever.applicationListeners.add(listener);
-			this.retrieverCache.clear();
 		}
 	}
 
@@ -126,8 +135,11 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeApplicationListener(ApplicationListener<?> listener) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.remove(listener);
-			this.retrieverCache.clear();
+			if (this.defaultRetriever.applicationListeners.remove(listener)) {
+				// Only evict the cached retrievers that contain the removed listener.
+				this.retrieverCache.values().removeIf(retriever ->
+						!retriever.isPopulated() || retriever.contains(listener));
+			}
 		}
 	}
 
@@ -176,6 +188,19 @@ public abstract class AbstractApplicationEventMulticaster
 		}
 	}
 
+	/**
+	 * Determine whether the given listener is registered as an instance,
+	 * that is, programmatically or as a singleton bean, rather than obtained
+	 * from the bean factory on every retrieval, as for a prototype bean.
+	 * @param listener the listener to check
+	 * @since 7.1
+	 */
+	protected boolean isRegisteredListenerInstance(ApplicationListener<?> listener) {
+		synchronized (this.defaultRetriever) {
+			return this.defaultRetriever.applicationListeners.contains(listener);
+		}
+	}
+
 	/**
 	 * Return a Collection of ApplicationListeners matching the given
 	 * event type. Non-matching listeners get excluded early.
@@ -459,6 +484,15 @@ public abstract class AbstractApplicationEventMulticaster
 
 		public volatile @Nullable Set<String> applicationListenerBeans;
 
+		public boolean isPopulated() {
+			return (this.applicationListeners != null && this.applicationListenerBeans != null);
+		}
+
+		public boolean contains(@Nullable Object listener) {
+			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
+			return (listener != null && applicationListeners != null && applicationListeners.contains(listener));
+		}
+
 		public @Nullable Collection<ApplicationListener<?>> getApplicationListeners() {
 			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
 			Set<String> applicationListenerBeans = this.applicationListenerBeans;
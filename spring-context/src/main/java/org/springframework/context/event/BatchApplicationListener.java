@@ -0,0 +1,52 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Extension of the {@link ApplicationListener} interface for listeners that
+ * can handle several events at once, for example, to amortize the cost of
+ * a write across the events of a batch.
+ *
+ * <p>Invoked with the events that have queued up for the listener in a
+ * {@link QueuedApplicationEventMulticaster}, while
+ * {@link #onApplicationEvent(ApplicationEvent)} continues to be used for
+ * individual events otherwise.
+ *
+ * @since 7.1
+ * @param <E> the specific {@code ApplicationEvent} subclass to listen to
+ * @see QueuedApplicationEventMulticaster#setBatchSize(int)
+ */
+public interface BatchApplicationListener<E extends ApplicationEvent> extends ApplicationListener<E> {
+
+	/**
+	 * Handle the given batch of application events, in the order in which
+	 * they were published.
+	 * <p>The default implementation handles each event individually.
+	 * @param events the events to respond to
+	 */
+	default void onApplicationEvents(List<E> events) {
+		for (E event : events) {
+			onApplicationEvent(event);
+		}
+	}
+
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * {@link SimpleApplicationEventMulticaster} variant that hands events to
+ * asynchronous listeners through a bounded queue per listener, rather than
+ * submitting a task to the executor for every single listener invocation.
+ *
+ * <p>Each listener is assigned an {@link Executor} through the
+ * {@linkplain #setListenerExecutorResolver listener executor resolver},
+ * by default the {@linkplain #setTaskExecutor task executor} of this
+ * multicaster. A listener without an executor, or that does not
+ * {@linkplain ApplicationListener#supportsAsyncExecution() support
+ * asynchronous execution}, is invoked in the publishing thread.
+ *
+ * <p>The events queued up for a listener are handled by at most one task at
+ * a time, in the order in which they were published, in batches of up to
+ * the configured {@linkplain #setBatchSize batch size}. A
+ * {@link BatchApplicationListener} receives each batch in a single call.
+ * Once a queue reaches its {@linkplain #setQueueCapacity capacity}, further
+ * events for the listener are handled according to the configured
+ * {@linkplain #setOverflowPolicy overflow policy}.
+ *
+ * <p>Queues are kept per listener instance, for listeners registered as
+ * instances, that is, programmatically or as singleton beans. Listeners
+ * obtained from the bean factory for every event, such as prototype or
+ * scoped listener beans, are handed to their executor per event instead,
+ * as by a {@link SimpleApplicationEventMulticaster}, and do not appear in
+ * the {@linkplain #getListenerStatistics() listener statistics}.
+ *
+ * @since 7.1
+ * @see #getListenerStatistics()
+ */
+public class QueuedApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+	private static final Log logger = LogFactory.getLog(QueuedApplicationEventMulticaster.class);
+
+
+	private @Nullable Function<ApplicationListener<?>, @Nullable Executor> listenerExecutorResolver;
+
+	private int queueCapacity = Integer.MAX_VALUE;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+
+	private int batchSize = 1;
+
+	private final Map<ApplicationListener<?>, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new QueuedApplicationEventMulticaster.
+	 */
+	public QueuedApplicationEventMulticaster() {
+	}
+
+	/**
+	 * Create a new QueuedApplicationEventMulticaster for the given BeanFactory.
+	 */
+	public QueuedApplicationEventMulticaster(BeanFactory beanFactory) {
+		super(beanFactory);
+	}
+
+
+	/**
+	 * Set a function that determines the executor for each listener, for
+	 * example, a named executor bean or a virtual thread executor, or
+	 * {@code null} for invoking the listener in the publishing thread.
+	 * <p>By default, all listeners use the {@linkplain #setTaskExecutor task
+	 * executor} of this multicaster.
+	 */
+	public void setListenerExecutorResolver(
+			@Nullable Function<ApplicationListener<?>, @Nullable Executor> listenerExecutorResolver) {
+
+		this.listenerExecutorResolver = listenerExecutorResolver;
+	}
+
+	/**
+	 * Set the maximum number of events to queue up per listener.
+	 * <p>Default is unbounded.
+	 * @see #setOverflowPolicy
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Return the maximum number of events to queue up per listener.
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Set the policy to apply to events for a listener whose queue is full.
+	 * <p>Default is {@link OverflowPolicy#CALLER_RUNS}.
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Return the policy to apply to events for a listener whose queue is full.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Set the maximum number of queued events to handle in one go, passed
+	 * to a {@link BatchApplicationListener} as a single batch.
+	 * <p>Default is 1.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Return the maximum number of queued events to handle in one go.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+
+	@Override
+	public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+		ResolvableType type = (eventType != null ? eventType : ResolvableType.forInstance(event));
+		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+			Executor executor = (listener.supportsAsyncExecution() ? determineExecutor(listener) : null);
+			if (executor != null) {
+				ListenerQueue queue = this.listenerQueues.get(listener);
+				if (queue == null) {
+					if (!isRegisteredListenerInstance(listener)) {
+						// New instance per event (for example, a prototype bean) -> do not queue
+						invokeListenerAsync(listener, event, executor);
+						continue;
+					}
+					queue = this.listenerQueues.computeIfAbsent(listener, ListenerQueue::new);
+				}
+				queue.add(event, executor);
+			}
+			else {
+				invokeListener(listener, event);
+			}
+		}
+	}
+
+	private void invokeListenerAsync(ApplicationListener<?> listener, ApplicationEvent event, Executor executor) {
+		try {
+			executor.execute(() -> invokeListener(listener, event));
+		}
+		catch (RejectedExecutionException ex) {
+			// Probably on shutdown -> invoke listener locally instead
+			invokeListener(listener, event);
+		}
+	}
+
+	/**
+	 * Determine the executor to use for the given listener.
+	 * @param listener the listener to invoke
+	 * @return the executor, or {@code null} to invoke the listener
+	 * in the publishing thread
+	 */
+	protected @Nullable Executor determineExecutor(ApplicationListener<?> listener) {
+		Function<ApplicationListener<?>, @Nullable Executor> resolver = this.listenerExecutorResolver;
+		return (resolver != null ? resolver.apply(listener) : getTaskExecutor());
+	}
+
+	/**
+	 * Invoke the given batch listener with the given events.
+	 * @param listener the batch listener to invoke
+	 * @param events the events to handle
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	protected void invokeBatchListener(BatchApplicationListener<?> listener, List<ApplicationEvent> events) {
+		ErrorHandler errorHandler = getErrorHandler();
+		try {
+			((BatchApplicationListener) listener).onApplicationEvents(events);
+		}
+		catch (Throwable err) {
+			if (errorHandler == null) {
+				throw err;
+			}
+			errorHandler.handleError(err);
+		}
+	}
+
+	/**
+	 * Return statistics for each listener that events have been queued for.
+	 */
+	public Map<ApplicationListener<?>, ListenerStatistics> getListenerStatistics() {
+		Map<ApplicationListener<?>, ListenerStatistics> statistics = new LinkedHashMap<>();
+		this.listenerQueues.forEach((listener, queue) -> statistics.put(listener, queue.getStatistics()));
+		return statistics;
+	}
+
+
+	@Override
+	public void removeApplicationListener(ApplicationListener<?> listener) {
+		super.removeApplicationListener(listener);
+		this.listenerQueues.remove(listener);
+	}
+
+	@Override
+	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
+		super.removeApplicationListeners(predicate);
+		this.listenerQueues.keySet().removeIf(predicate);
+	}
+
+	@Override
+	public void removeAllListeners() {
+		super.removeAllListeners();
+		this.listenerQueues.clear();
+	}
+
+
+	/**
+	 * Policy for events published for a listener whose queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Invoke the listener in the publishing thread, slowing down the
+		 * publisher. The event may then be handled before events that are
+		 * still queued.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * Discard the event for that listener.
+		 */
+		DISCARD,
+
+		/**
+		 * Throw a {@link RejectedExecutionException} to the publisher.
+		 */
+		ABORT
+	}
+
+
+	/**
+	 * Snapshot of the statistics for a listener.
+	 * @param invocations the number of events handled by the listener
+	 * @param totalTimeNanos the total time spent in the listener, in nanoseconds
+	 * @param maxTimeNanos the longest time spent in a single invocation of the
+	 * listener, in nanoseconds, that is, for a single event or, in case of a
+	 * {@link BatchApplicationListener}, for a single batch
+	 * @param queued the number of events currently queued up for the listener
+	 * @param overflowed the number of events handled according to the
+	 * {@linkplain #setOverflowPolicy overflow policy}
+	 */
+	public record ListenerStatistics(long invocations, long totalTimeNanos, long maxTimeNanos,
+			int queued, long overflowed) {
+
+		/**
+		 * Return the average time spent in the listener per event, in nanoseconds.
+		 */
+		public long averageTimeNanos() {
+			return (this.invocations > 0 ? this.totalTimeNanos / this.invocations : 0);
+		}
+	}
+
+
+	/**
+	 * Queue of events for a listener, drained by at most one task at a time.
+	 */
+	private class ListenerQueue {
+
+		private final ApplicationListener<?> listener;
+
+		private final Queue<ApplicationEvent> events = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		private final AtomicBoolean draining = new AtomicBoolean();
+
+		private final LongAdder invocations = new LongAdder();
+
+		private final LongAdder totalTimeNanos = new LongAdder();
+
+		private final AtomicLong maxTimeNanos = new AtomicLong();
+
+		private final LongAdder overflowed = new LongAdder();
+
+		ListenerQueue(ApplicationListener<?> listener) {
+			this.listener = listener;
+		}
+
+		void add(ApplicationEvent event, Executor executor) {
+			if (this.size.incrementAndGet() > queueCapacity) {
+				this.size.decrementAndGet();
+				this.overflowed.increment();
+				switch (overflowPolicy) {
+					case CALLER_RUNS -> {
+						invokeNow(event);
+						return;
+					}
+					case DISCARD -> {
+						if (logger.isDebugEnabled()) {
+							logger.debug("Discarding " + event + " for " + this.listener + ": queue is full");
+						}
+						return;
+					}
+					case ABORT -> throw new RejectedExecutionException(
+							"Queue for " + this.listener + " is full: rejecting " + event);
+				}
+			}
+			this.events.add(event);
+			if (this.draining.compareAndSet(false, true)) {
+				try {
+					executor.execute(this::drain);
+				}
+				catch (RejectedExecutionException ex) {
+					// Probably on shutdown -> drain events locally instead
+					drain();
+				}
+			}
+		}
+
+		private void drain() {
+			List<ApplicationEvent> batch = new ArrayList<>(Math.min(batchSize, 64));
+			while (true) {
+				ApplicationEvent event;
+				while (batch.size() < batchSize && (event = this.events.poll()) != null) {
+					batch.add(event);
+				}
+				if (batch.isEmpty()) {
+					this.draining.set(false);
+					// Re-check for events added after the last poll
+					if (this.events.isEmpty() || !this.draining.compareAndSet(false, true)) {
+						return;
+					}
+					continue;
+				}
+				this.size.addAndGet(-batch.size());
+				handle(batch);
+				batch.clear();
+			}
+		}
+
+		private void handle(List<ApplicationEvent> batch) {
+			if (this.listener instanceof BatchApplicationListener<?> batchListener) {
+				long start = System.nanoTime();
+				try {
+					invokeBatchListener(batchListener, batch);
+				}
+				catch (Throwable ex) {
+					logger.error("Failed to handle " + batch.size() + " events in " + this.listener, ex);
+				}
+				record(batch.size(), System.nanoTime() - start);
+			}
+			else {
+				for (ApplicationEvent event : batch) {
+					try {
+						invokeNow(event);
+					}
+					catch (Throwable ex) {
+						logger.error("Failed to handle " + event + " in " + this.listener, ex);
+					}
+				}
+			}
+		}
+
+		private void invokeNow(ApplicationEvent event) {
+			long start = System.nanoTime();
+			try {
+				invokeListener(this.listener, event);
+			}
+			finally {
+				record(1, System.nanoTime() - start);
+			}
+		}
+
+		private void record(int eventCount, long timeNanos) {
+			this.invocations.add(eventCount);
+			this.totalTimeNanos.add(timeNanos);
+			this.maxTimeNanos.accumulateAndGet(timeNanos, Math::max);
+		}
+
+		ListenerStatistics getStatistics() {
+			return new ListenerStatistics(this.invocations.sum(), this.totalTimeNanos.sum(),
+					this.maxTimeNanos.get(), this.size.get(), this.overflowed.sum());
+		}
+	}
+
+}
@@ -38,6 +38,8 @@ public abstract class CachedExpressionEvaluator {
 
 	private final SpelExpressionParser parser;
 
+	private @Nullable ExpressionCache expressionCache;
+
 
 	/**
 	 * Create a new instance with the default {@link SpelExpressionParser}.
@@ -62,6 +64,29 @@ public abstract class CachedExpressionEvaluator {
 		return this.parser;
 	}
 
+	/**
+	 * Set a shared {@link ExpressionCache} to hold parsed expressions,
+	 * rather than the caches of this evaluator.
+	 * <p>Expressions are still cached per element and {@linkplain #parseExpression
+	 * parsed} by this evaluator, while the number of expressions retained is
+	 * bounded by the size limit of the shared cache.
+	 * @param expressionCache the shared cache, or {@code null} to use the
+	 * caches of this evaluator
+	 * @since 7.1
+	 */
+	public void setExpressionCache(@Nullable ExpressionCache expressionCache) {
+		this.expressionCache = expressionCache;
+	}
+
+	/**
+	 * Return the shared {@link ExpressionCache} to obtain parsed expressions
+	 * from, if any.
+	 * @since 7.1
+	 */
+	public @Nullable ExpressionCache getExpressionCache() {
+		return this.expressionCache;
+	}
+
 	/**
 	 * Return a shared parameter name discoverer which caches data internally.
 	 * @since 4.3
@@ -74,6 +99,8 @@ public abstract class CachedExpressionEvaluator {
 	 * Return the parsed {@link Expression} for the specified SpEL expression.
 	 * <p>{@linkplain #parseExpression(String) Parses} the expression if it hasn't
 	 * already been parsed and cached.
+	 * <p>If a shared {@link #setExpressionCache ExpressionCache} is set, the
+	 * expression is held by it instead, and the given cache is not used.
 	 * @param cache the cache to use
 	 * @param elementKey the {@code AnnotatedElementKey} containing the element
 	 * on which the expression is defined
@@ -83,6 +110,11 @@ public abstract class CachedExpressionEvaluator {
 			AnnotatedElementKey elementKey, String expression) {
 
 		ExpressionKey expressionKey = createKey(elementKey, expression);
+		ExpressionCache expressionCache = this.expressionCache;
+		if (expressionCache != null) {
+			return expressionCache.getExpressionByKey(new SharedExpressionKey(this, expressionKey),
+					key -> parseExpression(expression));
+		}
 		return cache.computeIfAbsent(expressionKey, key -> parseExpression(expression));
 	}
 
@@ -100,6 +132,13 @@ public abstract class CachedExpressionEvaluator {
 	}
 
 
+	/**
+	 * Key of an expression of this evaluator in a shared {@link ExpressionCache}.
+	 */
+	private record SharedExpressionKey(CachedExpressionEvaluator evaluator, ExpressionKey expressionKey) {
+	}
+
+
 	/**
 	 * An expression key.
 	 */
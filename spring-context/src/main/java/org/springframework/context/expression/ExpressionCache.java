@@ -0,0 +1,291 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Size-bounded cache of parsed {@link Expression expressions}, meant to be
+ * shared by the SpEL consumers of an application context so that identical
+ * expression strings are parsed only once and generated or dynamic expressions
+ * do not accumulate without limit.
+ *
+ * <p>When defined as a bean, the cache is detected by the
+ * {@link StandardBeanExpressionResolver} of the application context, by
+ * {@code @Cacheable} and related annotations, and by {@code @EventListener}
+ * conditions. These consumers keep parsing their expressions with their own
+ * parser, under their own {@linkplain #getExpressionByKey keys}, and only share
+ * the bounded storage of this cache: the bean expression resolver per
+ * expression string, and the {@link CachedExpressionEvaluator expression
+ * evaluators} of the annotations per annotated element.
+ *
+ * <p>Expressions registered as {@linkplain #setWarmUpExpressions warm-up
+ * expressions} are parsed once all singletons have been instantiated, that is,
+ * at the end of the refresh of the application context, through the
+ * {@linkplain #addWarmUpFunction functions} of the consumers that look them up.
+ *
+ * @since 7.1
+ * @see CachedExpressionEvaluator#setExpressionCache
+ * @see StandardBeanExpressionResolver#setExpressionCache
+ */
+public class ExpressionCache implements SmartInitializingSingleton {
+
+	/**
+	 * The default maximum number of expressions to keep in the cache.
+	 */
+	public static final int DEFAULT_SIZE_LIMIT = 1024;
+
+
+	private final ExpressionParser expressionParser;
+
+	private final ConcurrentLruCache<CacheKey, Expression> cache;
+
+	private final LongAdder requestCount = new LongAdder();
+
+	private final LongAdder parseCount = new LongAdder();
+
+	private List<String> warmUpExpressions = List.of();
+
+	private final List<Function<String, Expression>> warmUpFunctions = new CopyOnWriteArrayList<>();
+
+
+	/**
+	 * Create a new {@code ExpressionCache} with a default {@link SpelExpressionParser}
+	 * and the {@linkplain #DEFAULT_SIZE_LIMIT default size limit}.
+	 */
+	public ExpressionCache() {
+		this(new SpelExpressionParser(), DEFAULT_SIZE_LIMIT);
+	}
+
+	/**
+	 * Create a new {@code ExpressionCache} with the given parser and size limit.
+	 * @param expressionParser the parser to use for expressions that are not cached yet
+	 * @param sizeLimit the maximum number of expressions to keep in the cache
+	 */
+	public ExpressionCache(ExpressionParser expressionParser, int sizeLimit) {
+		Assert.notNull(expressionParser, "ExpressionParser must not be null");
+		this.expressionParser = expressionParser;
+		this.cache = new ConcurrentLruCache<>(sizeLimit, this::parseExpression);
+	}
+
+
+	/**
+	 * Return the parser used for expressions that are not cached yet.
+	 */
+	public ExpressionParser getExpressionParser() {
+		return this.expressionParser;
+	}
+
+	/**
+	 * Set the expressions to parse at the end of the refresh of the application
+	 * context, so that the first evaluation of these expressions does not incur
+	 * the cost of parsing them.
+	 * <p>Expressions are given in the format of the consumer that evaluates
+	 * them, for example, {@code "#{...}"} for bean expressions.
+	 * @see #addWarmUpFunction
+	 */
+	public void setWarmUpExpressions(String... warmUpExpressions) {
+		this.warmUpExpressions = Arrays.asList(warmUpExpressions);
+	}
+
+	/**
+	 * Return the expressions to parse at the end of the refresh of the
+	 * application context.
+	 */
+	public List<String> getWarmUpExpressions() {
+		return this.warmUpExpressions;
+	}
+
+	/**
+	 * Add a function through which a consumer obtains expressions from this
+	 * cache, in order for the {@linkplain #setWarmUpExpressions warm-up
+	 * expressions} to be cached under the keys that consumer looks them up by.
+	 * <p>A {@link StandardBeanExpressionResolver} adds such a function when
+	 * this cache is {@linkplain StandardBeanExpressionResolver#setExpressionCache
+	 * set} on it. If no function has been added, warm-up expressions are cached
+	 * for {@link #getExpression(String)}.
+	 * @param warmUpFunction the function to obtain an expression with
+	 */
+	public void addWarmUpFunction(Function<String, Expression> warmUpFunction) {
+		Assert.notNull(warmUpFunction, "Warm-up function must not be null");
+		this.warmUpFunctions.add(warmUpFunction);
+	}
+
+
+	/**
+	 * Return the parsed {@link Expression} for the given expression string,
+	 * parsing it if necessary.
+	 * @param expression the expression to parse
+	 */
+	public Expression getExpression(String expression) {
+		return getExpression(expression, null);
+	}
+
+	/**
+	 * Return the parsed {@link Expression} for the given expression string and
+	 * {@link ParserContext}, parsing it if necessary.
+	 * @param expression the expression to parse
+	 * @param parserContext the context to parse the expression with, if any
+	 */
+	public Expression getExpression(String expression, @Nullable ParserContext parserContext) {
+		Assert.notNull(expression, "Expression must not be null");
+		this.requestCount.increment();
+		return this.cache.get(new ExpressionCacheKey(expression, parserContext));
+	}
+
+	/**
+	 * Return the {@link Expression} cached under the given key, parsing it with
+	 * the given function if necessary.
+	 * <p>This allows a consumer to keep its own keys and parsing, for example,
+	 * to cache an expression per element on which it is defined, since its
+	 * compiled state depends on the types it has been evaluated against, while
+	 * sharing the bounded storage of this cache. Keys must implement
+	 * {@code equals} and {@code hashCode}, and must be distinct from the keys
+	 * of other consumers.
+	 * @param key the key to cache the expression under
+	 * @param parseFunction the function to parse the expression with, if not cached yet
+	 */
+	public <K> Expression getExpressionByKey(K key, Function<? super K, Expression> parseFunction) {
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(parseFunction, "Parse function must not be null");
+		this.requestCount.increment();
+		return this.cache.get(new CustomCacheKey<>(key, parseFunction));
+	}
+
+	private Expression parseExpression(CacheKey key) {
+		this.parseCount.increment();
+		return key.parse(this.expressionParser);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		List<Function<String, Expression>> functions =
+				(!this.warmUpFunctions.isEmpty() ? this.warmUpFunctions : List.of(this::getExpression));
+		for (String expression : this.warmUpExpressions) {
+			for (Function<String, Expression> function : functions) {
+				function.apply(expression);
+			}
+		}
+	}
+
+	/**
+	 * Return the number of expressions currently held by this cache.
+	 */
+	public int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Return the maximum number of expressions held by this cache.
+	 */
+	public int sizeLimit() {
+		return this.cache.capacity();
+	}
+
+	/**
+	 * Return the number of expressions requested from this cache.
+	 */
+	public long getRequestCount() {
+		return this.requestCount.sum();
+	}
+
+	/**
+	 * Return the number of requested expressions that were found in the cache.
+	 */
+	public long getHitCount() {
+		return Math.max(this.requestCount.sum() - this.parseCount.sum(), 0);
+	}
+
+	/**
+	 * Return the number of expressions that have been parsed, including
+	 * expressions that have been parsed again after having been evicted.
+	 */
+	public long getParseCount() {
+		return this.parseCount.sum();
+	}
+
+	/**
+	 * Remove all expressions from this cache.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "ExpressionCache [size = " + size() + ", sizeLimit = " + sizeLimit() +
+				", requests = " + getRequestCount() + ", parsed = " + getParseCount() + "]";
+	}
+
+
+	private interface CacheKey {
+
+		Expression parse(ExpressionParser expressionParser);
+	}
+
+
+	private record ExpressionCacheKey(String expression, @Nullable ParserContext parserContext) implements CacheKey {
+
+		@Override
+		public Expression parse(ExpressionParser expressionParser) {
+			return expressionParser.parseExpression(this.expression, this.parserContext);
+		}
+	}
+
+
+	private static final class CustomCacheKey<K> implements CacheKey {
+
+		private final K key;
+
+		private final Function<? super K, Expression> parseFunction;
+
+		CustomCacheKey(K key, Function<? super K, Expression> parseFunction) {
+			this.key = key;
+			this.parseFunction = parseFunction;
+		}
+
+		@Override
+		public Expression parse(ExpressionParser expressionParser) {
+			return this.parseFunction.apply(this.key);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof CustomCacheKey<?> that && this.key.equals(that.key)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.key.hashCode();
+		}
+	}
+
+}
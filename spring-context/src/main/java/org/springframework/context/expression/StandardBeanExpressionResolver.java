@@ -33,6 +33,7 @@ import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.TemplateParserContext;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
@@ -83,6 +84,8 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 
 	private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>(256);
 
+	private @Nullable ExpressionCache sharedExpressionCache;
+
 	private final Map<BeanExpressionContext, StandardEvaluationContext> evaluationCache = new ConcurrentHashMap<>(8);
 
 	private final ParserContext beanExpressionParserContext = new ParserContext() {
@@ -154,6 +157,26 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 		this.expressionParser = expressionParser;
 	}
 
+	/**
+	 * Set a shared {@link ExpressionCache} to hold parsed expressions,
+	 * rather than the unbounded cache of this resolver.
+	 * <p>Expressions are still parsed with the {@linkplain #setExpressionParser
+	 * configured parser}, and cached per parser, prefix and suffix. This resolver
+	 * also parses the {@linkplain ExpressionCache#setWarmUpExpressions warm-up
+	 * expressions} of the shared cache.
+	 * <p>An application context applies an {@code ExpressionCache} bean defined
+	 * in it to its {@code StandardBeanExpressionResolver} automatically.
+	 * @param expressionCache the shared cache, or {@code null} to use the
+	 * cache of this resolver
+	 * @since 7.1
+	 */
+	public void setExpressionCache(@Nullable ExpressionCache expressionCache) {
+		this.sharedExpressionCache = expressionCache;
+		if (expressionCache != null) {
+			expressionCache.addWarmUpFunction(this::getExpression);
+		}
+	}
+
 
 	@Override
 	public @Nullable Object evaluate(@Nullable String value, BeanExpressionContext beanExpressionContext) throws BeansException {
@@ -161,8 +184,7 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 			return value;
 		}
 		try {
-			Expression expr = this.expressionCache.computeIfAbsent(value, expression ->
-					this.expressionParser.parseExpression(expression, this.beanExpressionParserContext));
+			Expression expr = getExpression(value);
 			EvaluationContext evalContext = this.evaluationCache.computeIfAbsent(beanExpressionContext, bec -> {
 					ConfigurableBeanFactory beanFactory = bec.getBeanFactory();
 					StandardEvaluationContext sec = new StandardEvaluationContext(bec);
@@ -186,6 +208,21 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 		}
 	}
 
+	/**
+	 * Obtain the parsed expression for the given value, from the shared
+	 * expression cache if set, or from the cache of this resolver otherwise.
+	 */
+	private Expression getExpression(String value) {
+		ExpressionCache sharedExpressionCache = this.sharedExpressionCache;
+		if (sharedExpressionCache != null) {
+			SharedExpressionKey key = new SharedExpressionKey(
+					this.expressionParser, this.expressionPrefix, this.expressionSuffix, value);
+			return sharedExpressionCache.getExpressionByKey(key, SharedExpressionKey::parse);
+		}
+		return this.expressionCache.computeIfAbsent(value, expression ->
+				this.expressionParser.parseExpression(expression, this.beanExpressionParserContext));
+	}
+
 	/**
 	 * Template method for customizing the expression evaluation context.
 	 * <p>The default implementation is empty.
@@ -211,4 +248,15 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 		}
 	}
 
+
+	/**
+	 * Key of a bean expression in a shared {@link ExpressionCache}.
+	 */
+	private record SharedExpressionKey(ExpressionParser parser, String prefix, String suffix, String expression) {
+
+		Expression parse() {
+			return this.parser.parseExpression(this.expression, new TemplateParserContext(this.prefix, this.suffix));
+		}
+	}
+
 }
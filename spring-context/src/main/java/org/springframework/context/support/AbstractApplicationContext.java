@@ -73,6 +73,7 @@ import org.springframework.context.event.ContextRestartedEvent;
 import org.springframework.context.event.ContextStartedEvent;
 import org.springframework.context.event.ContextStoppedEvent;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.expression.ExpressionCache;
 import org.springframework.context.expression.StandardBeanExpressionResolver;
 import org.springframework.context.weaving.LoadTimeWeaverAware;
 import org.springframework.context.weaving.LoadTimeWeaverAwareProcessor;
@@ -958,6 +959,15 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 					beanFactory.getBean(CONVERSION_SERVICE_BEAN_NAME, ConversionService.class));
 		}
 
+		// Share the expression cache for this context with the bean expression resolver.
+		if (beanFactory.getBeanExpressionResolver() instanceof StandardBeanExpressionResolver beanExpressionResolver) {
+			String[] expressionCacheNames = beanFactory.getBeanNamesForType(ExpressionCache.class, false, false);
+			if (expressionCacheNames.length == 1) {
+				beanExpressionResolver.setExpressionCache(
+						beanFactory.getBean(expressionCacheNames[0], ExpressionCache.class));
+			}
+		}
+
 		// Register a default embedded value resolver if no BeanFactoryPostProcessor
 		// (such as a PropertySourcesPlaceholderConfigurer bean) registered any before:
 		// at this point, primarily for resolution in annotation attribute values.
@@ -282,6 +282,54 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		assertThat(listener1.seenEvents).hasSize(2);
 	}
 
+	@Test
+	void retrieverCacheEvictedOnlyForAffectedEventTypes() {
+		MyOrderedListener1 listener1 = new MyOrderedListener1();
+		MyOrderedListener2 listener2 = new MyOrderedListener2(listener1);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.addApplicationListener(listener1);
+		smc.multicastEvent(new MyEvent(this));
+		smc.multicastEvent(new MyOtherEvent(this));
+		assertThat(smc.retrieverCache).hasSize(2);
+
+		smc.addApplicationListener(listener2);
+		assertThat(smc.retrieverCache).hasSize(1);
+		MyEvent event = new MyEvent(this);
+		smc.multicastEvent(event);
+		assertThat(smc.retrieverCache).hasSize(2);
+		assertThat(smc.getApplicationListeners(event, ResolvableType.forInstance(event)))
+				.containsExactly(listener1, listener2);
+
+		smc.removeApplicationListener(listener2);
+		assertThat(smc.retrieverCache).hasSize(1);
+		assertThat(smc.getApplicationListeners(event, ResolvableType.forInstance(event)))
+				.containsExactly(listener1);
+
+		smc.removeApplicationListener(listener1);
+		assertThat(smc.retrieverCache).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void retrieverCacheEvictedForTargetOfRegisteredProxy() {
+		MyOrderedListener1 listener1 = new MyOrderedListener1();
+		ApplicationListener<ApplicationEvent> proxy1 = (ApplicationListener<ApplicationEvent>) new ProxyFactory(listener1).getProxy();
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.addApplicationListener(proxy1);
+		smc.addApplicationListener(listener1);
+		MyEvent event = new MyEvent(this);
+		assertThat(smc.getApplicationListeners(event, ResolvableType.forInstance(event)))
+				.containsExactlyInAnyOrder(proxy1, listener1);
+
+		smc.addApplicationListener(proxy1);
+		assertThat(smc.getApplicationListeners(event, ResolvableType.forInstance(event)))
+				.containsExactly(proxy1);
+		smc.multicastEvent(event);
+		assertThat(listener1.seenEvents).containsExactly(event);
+	}
+
 	/**
 	 * Regression test for <a href="https://github.com/spring-projects/spring-framework/issues/28283">issue 28283</a>,
 	 * where event listeners proxied due to, for example,
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.QueuedApplicationEventMulticaster.ListenerStatistics;
+import org.springframework.context.event.QueuedApplicationEventMulticaster.OverflowPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link QueuedApplicationEventMulticaster}.
+ */
+class QueuedApplicationEventMulticasterTests {
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+	private final Executor executor = this.tasks::add;
+
+	private final QueuedApplicationEventMulticaster multicaster = new QueuedApplicationEventMulticaster();
+
+
+	@Test
+	void eventsQueuedAndHandledInOrder() {
+		List<Object> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.addApplicationListener(event -> received.add(payload(event)));
+
+		publish("a");
+		publish("b");
+		publish("c");
+		assertThat(received).isEmpty();
+		assertThat(this.tasks).hasSize(1);
+
+		runTasks();
+		assertThat(received).containsExactly("a", "b", "c");
+	}
+
+	@Test
+	void listenerWithoutExecutorInvokedInPublishingThread() {
+		List<Object> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setListenerExecutorResolver(listener -> null);
+		this.multicaster.addApplicationListener(event -> received.add(payload(event)));
+
+		publish("a");
+		assertThat(received).containsExactly("a");
+		assertThat(this.tasks).isEmpty();
+	}
+
+	@Test
+	void batchListener() {
+		List<List<Object>> batches = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setBatchSize(2);
+		this.multicaster.addApplicationListener(new BatchApplicationListener<>() {
+			@Override
+			public void onApplicationEvent(ApplicationEvent event) {
+				throw new IllegalStateException("Should have been invoked with a batch");
+			}
+			@Override
+			public void onApplicationEvents(List<ApplicationEvent> events) {
+				batches.add(events.stream().map(QueuedApplicationEventMulticasterTests::payload).toList());
+			}
+		});
+
+		publish("a");
+		publish("b");
+		publish("c");
+		runTasks();
+		assertThat(batches).containsExactly(List.of("a", "b"), List.of("c"));
+	}
+
+	@Test
+	void overflowCallerRuns() {
+		List<Object> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(1);
+		ApplicationListener<ApplicationEvent> listener = event -> received.add(payload(event));
+		this.multicaster.addApplicationListener(listener);
+
+		publish("a");
+		publish("b");
+		assertThat(received).containsExactly("b");
+		runTasks();
+		assertThat(received).containsExactly("b", "a");
+
+		ListenerStatistics statistics = this.multicaster.getListenerStatistics().get(listener);
+		assertThat(statistics.invocations()).isEqualTo(2);
+		assertThat(statistics.queued()).isZero();
+		assertThat(statistics.overflowed()).isEqualTo(1);
+	}
+
+	@Test
+	void overflowDiscard() {
+		List<Object> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(1);
+		this.multicaster.setOverflowPolicy(OverflowPolicy.DISCARD);
+		this.multicaster.addApplicationListener(event -> received.add(payload(event)));
+
+		publish("a");
+		publish("b");
+		runTasks();
+		assertThat(received).containsExactly("a");
+	}
+
+	@Test
+	void overflowAbort() {
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(1);
+		this.multicaster.setOverflowPolicy(OverflowPolicy.ABORT);
+		this.multicaster.addApplicationListener(event -> {});
+
+		publish("a");
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> publish("b"));
+	}
+
+	@Test
+	void failingListenerDoesNotStopQueue() {
+		List<Object> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.addApplicationListener(event -> {
+			if ("a".equals(payload(event))) {
+				throw new IllegalStateException("Expected");
+			}
+			received.add(payload(event));
+		});
+
+		publish("a");
+		publish("b");
+		runTasks();
+		assertThat(received).containsExactly("b");
+	}
+
+	@Test
+	void prototypeListenerBeanNotQueued() {
+		List<Object> received = new ArrayList<>();
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		RootBeanDefinition bd = new RootBeanDefinition(RecordingListener.class, () -> new RecordingListener(received));
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		beanFactory.registerBeanDefinition("listener", bd);
+		this.multicaster.setBeanFactory(beanFactory);
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.addApplicationListenerBean("listener");
+
+		publish("a");
+		publish("b");
+		publish("c");
+		assertThat(this.tasks).hasSize(3);
+		runTasks();
+		assertThat(received).containsExactly("a", "b", "c");
+		assertThat(this.multicaster.getListenerStatistics()).isEmpty();
+	}
+
+
+	private void publish(String payload) {
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, payload));
+	}
+
+	private void runTasks() {
+		while (!this.tasks.isEmpty()) {
+			this.tasks.remove(0).run();
+		}
+	}
+
+	private static Object payload(ApplicationEvent event) {
+		return ((PayloadApplicationEvent<?>) event).getPayload();
+	}
+
+
+	static class RecordingListener implements ApplicationListener<ApplicationEvent> {
+
+		private final List<Object> received;
+
+		RecordingListener(List<Object> received) {
+			this.received = received;
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationEvent event) {
+			this.received.add(payload(event));
+		}
+	}
+
+}
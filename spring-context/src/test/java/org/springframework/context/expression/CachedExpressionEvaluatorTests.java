@@ -23,7 +23,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,10 +70,51 @@ class CachedExpressionEvaluatorTests {
 		assertThat(expressionEvaluator.testCache).as("Cached expression should be based on type").hasSize(2);
 	}
 
+	@Test
+	void sharedExpressionCache() {
+		ExpressionCache expressionCache = new ExpressionCache();
+		expressionEvaluator.setExpressionCache(expressionCache);
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		Expression expression = expressionEvaluator.getTestExpression("true", method, getClass());
+		assertThat(expressionEvaluator.getTestExpression("true", method, getClass())).isSameAs(expression);
+		assertThat(expressionEvaluator.getTestExpression("true", method, Object.class)).isNotSameAs(expression);
+		assertThat(expressionEvaluator.testCache).isEmpty();
+		assertThat(expressionCache.getParseCount()).isEqualTo(2);
+		assertThat(expressionCache.getHitCount()).isEqualTo(1);
+		verify(expressionEvaluator.getParser(), times(2)).parseExpression("true");
+	}
+
+	@Test
+	void sharedExpressionCacheWithCompiledExpressionOnDifferentParameterTypes() {
+		SpelParserConfiguration configuration =
+				new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, getClass().getClassLoader());
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(new SpelExpressionParser(configuration));
+		evaluator.setExpressionCache(new ExpressionCache());
+		Method intMethod = ReflectionUtils.findMethod(getClass(), "handle", int.class);
+		Method stringMethod = ReflectionUtils.findMethod(getClass(), "handle", String.class);
+
+		StandardEvaluationContext intContext = new StandardEvaluationContext();
+		intContext.setVariable("id", 1);
+		StandardEvaluationContext stringContext = new StandardEvaluationContext();
+		stringContext.setVariable("id", "a");
+		for (int i = 0; i < 3; i++) {
+			assertThat(evaluator.getTestExpression("#id + 1", intMethod, getClass()).getValue(intContext)).isEqualTo(2);
+			assertThat(evaluator.getTestExpression("#id + 1", stringMethod, getClass()).getValue(stringContext)).isEqualTo("a1");
+		}
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
 
+	@SuppressWarnings("unused")
+	private void handle(int id) {
+	}
+
+	@SuppressWarnings("unused")
+	private void handle(String id) {
+	}
+
 	private static class TestExpressionEvaluator extends CachedExpressionEvaluator {
 
 		private final Map<ExpressionKey, Expression> testCache = new ConcurrentHashMap<>();
@@ -79,6 +123,10 @@ class CachedExpressionEvaluatorTests {
 			super(mockSpelExpressionParser());
 		}
 
+		public TestExpressionEvaluator(SpelExpressionParser parser) {
+			super(parser);
+		}
+
 		public Expression getTestExpression(String expression, Method method, Class<?> type) {
 			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
 		}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.config.BeanExpressionContext;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ExpressionCache}.
+ */
+class ExpressionCacheTests {
+
+	@Test
+	void getExpressionParsesOnce() {
+		ExpressionCache expressionCache = new ExpressionCache();
+		Expression expression = expressionCache.getExpression("1 + 1");
+		assertThat(expression.getValue()).isEqualTo(2);
+		assertThat(expressionCache.getExpression("1 + 1")).isSameAs(expression);
+		assertThat(expressionCache.size()).isEqualTo(1);
+		assertThat(expressionCache.getRequestCount()).isEqualTo(2);
+		assertThat(expressionCache.getParseCount()).isEqualTo(1);
+		assertThat(expressionCache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void getExpressionWithParserContext() {
+		ExpressionCache expressionCache = new ExpressionCache();
+		assertThat(expressionCache.getExpression("'x'", new TemplateParserContext()).getValue()).isEqualTo("'x'");
+		assertThat(expressionCache.getExpression("'x'").getValue()).isEqualTo("x");
+		assertThat(expressionCache.getParseCount()).isEqualTo(2);
+	}
+
+	@Test
+	void getExpressionByKey() {
+		ExpressionCache expressionCache = new ExpressionCache();
+		SpelExpressionParser parser = new SpelExpressionParser();
+		Expression expression = expressionCache.getExpressionByKey("a", key -> parser.parseExpression("1 + 1"));
+		assertThat(expressionCache.getExpressionByKey("a", key -> parser.parseExpression("2 + 2"))).isSameAs(expression);
+		assertThat(expressionCache.getExpressionByKey("b", key -> parser.parseExpression("1 + 1"))).isNotSameAs(expression);
+		assertThat(expressionCache.getExpression("1 + 1")).isNotSameAs(expression);
+		assertThat(expressionCache.size()).isEqualTo(3);
+		assertThat(expressionCache.getParseCount()).isEqualTo(3);
+	}
+
+	@Test
+	void sizeLimit() {
+		ExpressionCache expressionCache = new ExpressionCache(new SpelExpressionParser(), 2);
+		for (int i = 0; i < 10; i++) {
+			expressionCache.getExpression(Integer.toString(i));
+		}
+		assertThat(expressionCache.size()).isEqualTo(2);
+		assertThat(expressionCache.sizeLimit()).isEqualTo(2);
+		assertThat(expressionCache.getParseCount()).isEqualTo(10);
+	}
+
+	@Test
+	void warmUpExpressionsParsedOnRefresh() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(ExpressionCache.class, () -> {
+			ExpressionCache expressionCache = new ExpressionCache();
+			expressionCache.setWarmUpExpressions("#{40 + 2}", "#{'b'}");
+			return expressionCache;
+		});
+		context.refresh();
+		ExpressionCache expressionCache = context.getBean(ExpressionCache.class);
+		assertThat(expressionCache.getParseCount()).isEqualTo(2);
+		Object value = context.getBeanFactory().getBeanExpressionResolver().evaluate(
+				"#{40 + 2}", new BeanExpressionContext(context.getBeanFactory(), null));
+		assertThat(value).isEqualTo(42);
+		assertThat(expressionCache.getParseCount()).isEqualTo(2);
+		context.close();
+	}
+
+	@Test
+	void warmUpExpressionsWithoutConsumer() {
+		ExpressionCache expressionCache = new ExpressionCache();
+		expressionCache.setWarmUpExpressions("'a'", "'b'");
+		expressionCache.afterSingletonsInstantiated();
+		assertThat(expressionCache.getParseCount()).isEqualTo(2);
+		expressionCache.getExpression("'a'");
+		assertThat(expressionCache.getParseCount()).isEqualTo(2);
+	}
+
+	@Test
+	void sharedWithBeanExpressionResolver() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(ExpressionCache.class);
+		context.refresh();
+		ExpressionCache expressionCache = context.getBean(ExpressionCache.class);
+		Object value = context.getBeanFactory().getBeanExpressionResolver().evaluate(
+				"#{40 + 2}", new BeanExpressionContext(context.getBeanFactory(), null));
+		assertThat(value).isEqualTo(42);
+		assertThat(expressionCache.getParseCount()).isEqualTo(1);
+		context.close();
+	}
+
+	@Test
+	void sharedWithBeanExpressionResolverUsingItsOwnParser() {
+		AtomicInteger parseCount = new AtomicInteger();
+		SpelExpressionParser parser = new SpelExpressionParser() {
+			@Override
+			protected SpelExpression doParseExpression(String expressionString, @Nullable ParserContext context) {
+				parseCount.incrementAndGet();
+				return super.doParseExpression(expressionString, context);
+			}
+		};
+		ExpressionCache expressionCache = new ExpressionCache();
+		StandardBeanExpressionResolver resolver = new StandardBeanExpressionResolver();
+		resolver.setExpressionParser(parser);
+		resolver.setExpressionCache(expressionCache);
+		BeanExpressionContext context = new BeanExpressionContext(new DefaultListableBeanFactory(), null);
+		assertThat(resolver.evaluate("#{40 + 2}", context)).isEqualTo(42);
+		assertThat(resolver.evaluate("#{40 + 2}", context)).isEqualTo(42);
+		assertThat(parseCount.get()).isEqualTo(1);
+		assertThat(expressionCache.getParseCount()).isEqualTo(1);
+
+		// Same expression string, cached separately for a different prefix
+		resolver.setExpressionPrefix("${");
+		assertThat(resolver.evaluate("${40 + 2}", context)).isEqualTo(42);
+		assertThat(resolver.evaluate("#{40 + 2}", context)).isEqualTo("#{40 + 2}");
+		assertThat(parseCount.get()).isEqualTo(2);
+	}
+
+}
@@ -55,6 +55,15 @@ public class ConcurrentReferenceHashMapBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void concurrentMapPutAndRemove(ConcurrentMapBenchmarkData data, Blackhole bh) {
+		for (String element : data.elements) {
+			String key = element + "removed";
+			bh.consume(data.map.put(key, new WeakReference<>(element)));
+			bh.consume(data.map.remove(key));
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class ConcurrentMapBenchmarkData {
 
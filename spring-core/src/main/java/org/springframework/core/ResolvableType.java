@@ -99,6 +99,9 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final ConcurrentReferenceHashMap<Class<?>, ResolvableType> classTypeCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -132,6 +135,8 @@ public class ResolvableType implements Serializable {
 
 	private transient volatile @Nullable Boolean unresolvableGenerics;
 
+	private transient volatile @Nullable Boolean unresolvableTypeVariable;
+
 
 	/**
 	 * Private constructor used to create a new {@code ResolvableType} for cache key purposes,
@@ -259,7 +264,7 @@ public class ResolvableType implements Serializable {
 	public boolean isAssignableFrom(Class<?> other) {
 		// As of 6.1: shortcut assignability check for top-level Class references
 		return (this.type instanceof Class<?> clazz ? ClassUtils.isAssignable(clazz, other) :
-				isAssignableFrom(forClass(other), false, null, false));
+				isAssignableFrom(forCanonicalClass(other), false, null, false));
 	}
 
 	/**
@@ -299,6 +304,11 @@ public class ResolvableType implements Serializable {
 			return false;
 		}
 
+		// Shortcut for the very same type instance, for example, a shared declared type
+		if (this == other) {
+			return true;
+		}
+
 		if (matchedBefore != null) {
 			if (matchedBefore.get(this.type) == other.type) {
 				return true;
@@ -506,26 +516,23 @@ public class ResolvableType implements Serializable {
 	 * @see #getInterfaces()
 	 */
 	public ResolvableType getSuperType() {
-		Class<?> resolved = resolve();
-		if (resolved == null) {
-			return NONE;
-		}
-		try {
-			Type superclass = resolved.getGenericSuperclass();
-			if (superclass == null) {
+		ResolvableType superType = this.superType;
+		if (superType == null) {
+			Class<?> resolved = resolve();
+			if (resolved == null) {
 				return NONE;
 			}
-			ResolvableType superType = this.superType;
-			if (superType == null) {
-				superType = forType(superclass, this);
+			try {
+				Type superclass = resolved.getGenericSuperclass();
+				superType = (superclass != null ? forType(superclass, this) : NONE);
 				this.superType = superType;
 			}
-			return superType;
-		}
-		catch (TypeNotPresentException ex) {
-			// Ignore non-present types in generic signature
-			return NONE;
+			catch (TypeNotPresentException ex) {
+				// Ignore non-present types in generic signature
+				return NONE;
+			}
 		}
+		return superType;
 	}
 
 	/**
@@ -661,10 +668,14 @@ public class ResolvableType implements Serializable {
 			if (this.variableResolver == null) {
 				return true;
 			}
-			ResolvableType resolved = this.variableResolver.resolveVariable(variable);
-			if (resolved == null || resolved.isUnresolvableTypeVariable() || resolved.isWildcardWithoutBounds()) {
-				return true;
+			Boolean unresolvableTypeVariable = this.unresolvableTypeVariable;
+			if (unresolvableTypeVariable == null) {
+				ResolvableType resolved = this.variableResolver.resolveVariable(variable);
+				unresolvableTypeVariable = (resolved == null || resolved.isUnresolvableTypeVariable() ||
+						resolved.isWildcardWithoutBounds());
+				this.unresolvableTypeVariable = unresolvableTypeVariable;
 			}
+			return unresolvableTypeVariable;
 		}
 		return false;
 	}
@@ -1550,12 +1561,32 @@ public class ResolvableType implements Serializable {
 		return resultType;
 	}
 
+	/**
+	 * Return a shared {@code ResolvableType} for the specified {@link Class},
+	 * retaining its lazily resolved super type, interfaces and generics across
+	 * repeated assignability checks against the same class.
+	 * @param clazz the class to introspect
+	 * @return a canonical {@code ResolvableType} for the specified class
+	 */
+	private static ResolvableType forCanonicalClass(Class<?> clazz) {
+		ResolvableType resolvableType = classTypeCache.get(clazz);
+		if (resolvableType == null) {
+			resolvableType = new ResolvableType(clazz);
+			ResolvableType existing = classTypeCache.putIfAbsent(clazz, resolvableType);
+			if (existing != null) {
+				resolvableType = existing;
+			}
+		}
+		return resolvableType;
+	}
+
 	/**
 	 * Clear the internal {@code ResolvableType}/{@code SerializableTypeWrapper} cache.
 	 * @since 4.2
 	 */
 	public static void clearCache() {
 		cache.clear();
+		classTypeCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
@@ -734,10 +734,19 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 				int expectedCount = this.count.get();
 				Set<Reference<K, V>> toPurge = Collections.emptySet();
 				if (ref != null) {
-					toPurge = new HashSet<>();
-					while (ref != null) {
+					// Drain all pending references at once, without allocating
+					// a hash set for the common case of a single reference
+					Reference<K, V> next = this.referenceManager.pollForPurge();
+					if (next == null) {
+						toPurge = Collections.singleton(ref);
+					}
+					else {
+						toPurge = new HashSet<>();
 						toPurge.add(ref);
-						ref = this.referenceManager.pollForPurge();
+						while (next != null) {
+							toPurge.add(next);
+							next = this.referenceManager.pollForPurge();
+						}
 					}
 				}
 				expectedCount -= toPurge.size();
@@ -752,9 +761,9 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 					resizing = true;
 				}
 
-				int newCount = 0;
 				// Restructure the resized reference array
 				if (resizing) {
+					int newCount = 0;
 					Reference<K, V>[] restructured = createReferenceArray(restructureSize);
 					for (Reference<K, V> reference : this.references) {
 						ref = reference;
@@ -776,35 +785,62 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 					// Replace volatile members
 					this.references = restructured;
 					this.resizeThreshold = (int) (this.references.length * getLoadFactor());
+					this.count.set(newCount);
 				}
-				// Restructure the existing reference array "in place"
+				// Restructure the existing reference array "in place", only rebuilding
+				// the chains that actually hold references to purge
 				else {
-					for (int i = 0; i < this.references.length; i++) {
-						Reference<K, V> purgedRef = null;
-						ref = this.references[i];
-						while (ref != null) {
-							if (!toPurge.contains(ref)) {
-								Entry<K, V> entry = ref.get();
-								// Also filter out null references that are now null:
-								// They should be polled from the queue in a later restructure call.
-								if (entry != null) {
-									purgedRef = this.referenceManager.createReference(
-											entry, ref.getHash(), purgedRef);
-								}
-								newCount++;
-							}
-							ref = ref.getNext();
+					int removed = 0;
+					for (Reference<K, V> purged : toPurge) {
+						int index = getIndex(purged.getHash(), this.references);
+						if (containsInChain(this.references[index], purged)) {
+							removed += purgeChain(index, toPurge);
 						}
-						this.references[i] = purgedRef;
 					}
+					this.count.addAndGet(-removed);
 				}
-				this.count.set(newCount);
 			}
 			finally {
 				unlock();
 			}
 		}
 
+		/**
+		 * Rebuild the chain at the given index without the references to purge.
+		 * @return the number of references removed from the chain
+		 */
+		private int purgeChain(int index, Set<Reference<K, V>> toPurge) {
+			int removed = 0;
+			Reference<K, V> purgedRef = null;
+			Reference<K, V> ref = this.references[index];
+			while (ref != null) {
+				Entry<K, V> entry = (toPurge.contains(ref) ? null : ref.get());
+				// Also filter out references that are now null: they will be
+				// polled from the queue in a later restructure call but are no
+				// longer part of any chain by then.
+				if (entry != null) {
+					purgedRef = this.referenceManager.createReference(entry, ref.getHash(), purgedRef);
+				}
+				else {
+					removed++;
+				}
+				ref = ref.getNext();
+			}
+			this.references[index] = purgedRef;
+			return removed;
+		}
+
+		private boolean containsInChain(@Nullable Reference<K, V> head, Reference<K, V> ref) {
+			Reference<K, V> currRef = head;
+			while (currRef != null) {
+				if (currRef == ref) {
+					return true;
+				}
+				currRef = currRef.getNext();
+			}
+			return false;
+		}
+
 		private @Nullable Reference<K, V> findInChain(@Nullable Reference<K, V> ref, @Nullable Object key, int hash) {
 			Reference<K, V> currRef = ref;
 			while (currRef != null) {
@@ -1065,6 +1065,20 @@ class ResolvableTypeTests {
 		assertThat(stringType.isInstance(new StringBuilder("a StringBuilder"))).isFalse();
 	}
 
+	@Test
+	void isAssignableFromClassForGenericType() {
+		ResolvableType charSequenceListType = ResolvableType.forClassWithGenerics(List.class, CharSequence.class);
+		ResolvableType stringListType = ResolvableType.forClassWithGenerics(List.class, String.class);
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(charSequenceListType.isAssignableFrom(ExtendsList.class)).isTrue();
+			assertThat(stringListType.isAssignableFrom(ExtendsList.class)).isFalse();
+			assertThat(charSequenceListType.isAssignableFrom(Set.class)).isFalse();
+			assertThat(charSequenceListType.isAssignableFrom(charSequenceListType)).isTrue();
+			ResolvableType.clearCache();
+		}
+	}
+
 	@Test
 	void isAssignableFromCannotBeResolved() throws Exception {
 		ResolvableType objectType = ResolvableType.forClass(Object.class);
@@ -244,6 +244,21 @@ class ConcurrentReferenceHashMapTests {
 		assertThat(this.map.get(5)).isEqualTo("5");
 	}
 
+	@Test
+	void purgeOnlyRebuildsAffectedChains() {
+		this.map = new TestWeakConcurrentCache<>(1, 0.75f, 1);
+		for (int i = 1; i <= 5; i++) {
+			this.map.put(i, String.valueOf(i));
+		}
+		MockReference<Integer, String> reference1 = this.map.getMockReference(1, Restructure.NEVER);
+		this.map.getMockReference(3, Restructure.NEVER).queueForPurge();
+		this.map.getMockReference(4, Restructure.NEVER).queueForPurge();
+		assertThat(this.map.getReference(3, Restructure.WHEN_NECESSARY)).isNull();
+		assertThat(this.map.getMockReference(1, Restructure.NEVER)).isSameAs(reference1);
+		assertThat(this.map.getSegment(0).getCount()).isEqualTo(3);
+		assertThat(this.map).hasSize(3).containsOnlyKeys(1, 2, 5);
+	}
+
 	@Test
 	void putIfAbsent() {
 		assertThat(this.map.putIfAbsent(123, "123")).isNull();
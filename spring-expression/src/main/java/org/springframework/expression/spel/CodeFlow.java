@@ -46,6 +46,10 @@ import org.springframework.util.CollectionUtils;
  */
 public class CodeFlow implements Opcodes {
 
+	private static final String NESTED_METHOD_DESCRIPTOR =
+			"(Ljava/lang/Object;Lorg/springframework/expression/EvaluationContext;Ljava/lang/Object;)Ljava/lang/Object;";
+
+
 	/**
 	 * Name of the class being generated. Typically used when generating code
 	 * that accesses freshly generated fields on the generated type.
@@ -88,9 +92,22 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the EvaluationContext, and variable
+	 * 3 is the root object in a nested method).
+	 */
+	private int nextFreeVariableId = 4;
+
+	/**
+	 * The id of the next nested method generated for a sub-expression that is
+	 * evaluated against a nested target.
+	 */
+	private int nextNestedMethodId = 1;
+
+	/**
+	 * The depth of nested methods that code is currently generated for.
 	 */
-	private int nextFreeVariableId = 1;
+	private int nestedMethodDepth;
 
 
 	/**
@@ -115,6 +132,18 @@ public class CodeFlow implements Opcodes {
 		mv.visitVarInsn(ALOAD, 1);
 	}
 
+	/**
+	 * Push the bytecode to load the root object, that is, the target passed to
+	 * CompiledExpression.getValue(target, context), also from within a nested
+	 * method where the target is a nested object.
+	 * @param mv the method visitor into which the load instruction should be inserted
+	 * @since 7.1
+	 * @see #generateNestedMethod(SpelNode)
+	 */
+	public void loadRoot(MethodVisitor mv) {
+		mv.visitVarInsn(ALOAD, this.nestedMethodDepth > 0 ? 3 : 1);
+	}
+
 	/**
 	 * Push the bytecode to load the EvaluationContext (the second parameter passed to
 	 * the compiled expression method).
@@ -219,6 +248,56 @@ public class CodeFlow implements Opcodes {
 		this.clinitAdders.add(clinitAdder);
 	}
 
+	/**
+	 * Generate a method in the class being generated that evaluates the given
+	 * expression against a nested target, for example, against each element of
+	 * a collection for a selection or projection.
+	 * <p>Within the generated method, the nested target is the target of the
+	 * expression, while the root object remains accessible through
+	 * {@link #loadRoot(MethodVisitor)}. The method returns the result of the
+	 * expression as an object, and is invoked through
+	 * {@link #invokeNestedMethod(MethodVisitor, String)}.
+	 * @param expression the expression to generate the method for
+	 * @return the name of the generated method
+	 * @since 7.1
+	 */
+	public String generateNestedMethod(SpelNode expression) {
+		String methodName = "nested$" + this.nextNestedMethodId++;
+		MethodVisitor mv = this.classWriter.visitMethod(ACC_PUBLIC, methodName, NESTED_METHOD_DESCRIPTOR, null,
+				new String[] {"org/springframework/expression/EvaluationException"});
+		mv.visitCode();
+		this.nestedMethodDepth++;
+		enterCompilationScope();
+		try {
+			expression.generateCode(mv, this);
+			insertBoxIfNecessary(mv, lastDescriptor());
+			if ("V".equals(lastDescriptor())) {
+				mv.visitInsn(ACONST_NULL);
+			}
+		}
+		finally {
+			exitCompilationScope();
+			this.nestedMethodDepth--;
+		}
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);  // not supplied due to COMPUTE_MAXS
+		mv.visitEnd();
+		return methodName;
+	}
+
+	/**
+	 * Insert the bytecode to invoke a method generated through
+	 * {@link #generateNestedMethod(SpelNode)}, expecting the generated object
+	 * ('this'), the nested target, the EvaluationContext, and the root object
+	 * on the stack.
+	 * @param mv the method visitor into which the invocation should be inserted
+	 * @param methodName the name of the generated method
+	 * @since 7.1
+	 */
+	public void invokeNestedMethod(MethodVisitor mv, String methodName) {
+		mv.visitMethodInsn(INVOKEVIRTUAL, this.className, methodName, NESTED_METHOD_DESCRIPTOR, false);
+	}
+
 	public int nextFieldId() {
 		return this.nextFieldId++;
 	}
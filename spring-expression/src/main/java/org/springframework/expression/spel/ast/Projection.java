@@ -25,8 +25,11 @@ import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -88,6 +91,7 @@ public class Projection extends SpelNodeImpl {
 	protected ValueRef getValueRef(ExpressionState state) throws EvaluationException {
 		TypedValue contextObject = state.getActiveContextObject();
 		Object operand = contextObject.getValue();
+		boolean operandIsOptional = false;
 
 		if (isNullSafe()) {
 			if (operand == null) {
@@ -98,6 +102,7 @@ public class Projection extends SpelNodeImpl {
 					return ValueRef.NullValueRef.INSTANCE;
 				}
 				operand = optional.get();
+				operandIsOptional = true;
 			}
 		}
 
@@ -110,6 +115,7 @@ public class Projection extends SpelNodeImpl {
 		// that can be referenced in the operation -- for example,
 		// {'a':'y', 'b':'n'}.![value == 'y' ? key : null] evaluates to ['a', null].
 		if (operand instanceof Map<?, ?> mapData) {
+			this.exitTypeDescriptor = null;
 			state.trackOperation();
 			List<Object> result = new ArrayList<>();
 			for (Map.Entry<?, ?> entry : mapData.entrySet()) {
@@ -131,6 +137,8 @@ public class Projection extends SpelNodeImpl {
 		if (operand instanceof Iterable || operandIsArray) {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ?
 					iterable : Arrays.asList(ObjectUtils.toObjectArray(operand)));
+			// Only projection over an Iterable is compilable, producing a List
+			this.exitTypeDescriptor = (operandIsArray || operandIsOptional ? null : "Ljava/util/List");
 
 			state.trackOperation();
 			List<Object> result = new ArrayList<>();
@@ -173,6 +181,67 @@ public class Projection extends SpelNodeImpl {
 		return "![" + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return (this.exitTypeDescriptor != null && this.children[0].isCompilable());
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			// Nothing on the stack but something is needed
+			cf.loadTarget(mv);
+		}
+
+		Label skipIfNull = null;
+		if (isNullSafe()) {
+			skipIfNull = new Label();
+			Label continueLabel = new Label();
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNONNULL, continueLabel);
+			mv.visitInsn(POP);
+			mv.visitInsn(ACONST_NULL);
+			mv.visitJumpInsn(GOTO, skipIfNull);
+			mv.visitLabel(continueLabel);
+		}
+
+		mv.visitTypeInsn(CHECKCAST, "java/lang/Iterable");
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		int iteratorVariableId = cf.nextFreeVariableId();
+		mv.visitVarInsn(ASTORE, iteratorVariableId);
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		int resultVariableId = cf.nextFreeVariableId();
+		mv.visitVarInsn(ASTORE, resultVariableId);
+
+		// The operation is evaluated against each element in a method of its own
+		String operationMethodName = cf.generateNestedMethod(this.children[0]);
+		Label loopLabel = new Label();
+		Label endLabel = new Label();
+		mv.visitLabel(loopLabel);
+		mv.visitVarInsn(ALOAD, iteratorVariableId);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, endLabel);
+		mv.visitVarInsn(ALOAD, resultVariableId);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, iteratorVariableId);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		cf.loadEvaluationContext(mv);
+		cf.loadRoot(mv);
+		cf.invokeNestedMethod(mv, operationMethodName);
+		mv.visitMethodInsn(INVOKEVIRTUAL, "java/util/ArrayList", "add", "(Ljava/lang/Object;)Z", false);
+		mv.visitInsn(POP);
+		mv.visitJumpInsn(GOTO, loopLabel);
+		mv.visitLabel(endLabel);
+		mv.visitVarInsn(ALOAD, resultVariableId);
+
+		if (skipIfNull != null) {
+			mv.visitLabel(skipIfNull);
+		}
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 	private Class<?> determineCommonType(@Nullable Class<?> oldType, Class<?> newType) {
 		if (oldType == null) {
 			return newType;
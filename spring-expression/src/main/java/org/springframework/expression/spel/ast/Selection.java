@@ -24,9 +24,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -110,6 +113,7 @@ public class Selection extends SpelNodeImpl {
 	protected ValueRef getValueRef(ExpressionState state) throws EvaluationException {
 		TypedValue contextObject = state.getActiveContextObject();
 		Object operand = contextObject.getValue();
+		boolean operandIsOptional = false;
 
 		if (isNullSafe()) {
 			if (operand == null) {
@@ -120,6 +124,7 @@ public class Selection extends SpelNodeImpl {
 					return ValueRef.NullValueRef.INSTANCE;
 				}
 				operand = optional.get();
+				operandIsOptional = true;
 			}
 		}
 
@@ -130,6 +135,7 @@ public class Selection extends SpelNodeImpl {
 		SpelNodeImpl selectionCriteria = this.children[0];
 
 		if (operand instanceof Map<?, ?> mapdata) {
+			this.exitTypeDescriptor = null;
 			state.trackOperation();
 			Map<Object, Object> result = new HashMap<>();
 			Object lastKey = null;
@@ -178,6 +184,13 @@ public class Selection extends SpelNodeImpl {
 		if (operand instanceof Iterable || ObjectUtils.isArray(operand)) {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ? iterable :
 					Arrays.asList(ObjectUtils.toObjectArray(operand)));
+			// Only selection over an Iterable is compilable, producing a List or a single element
+			if (operand instanceof Iterable && !operandIsOptional) {
+				this.exitTypeDescriptor = (this.variant == ALL ? "Ljava/util/List" : "Ljava/lang/Object");
+			}
+			else {
+				this.exitTypeDescriptor = null;
+			}
 
 			state.trackOperation();
 			List<Object> result = new ArrayList<>();
@@ -242,6 +255,88 @@ public class Selection extends SpelNodeImpl {
 		return prefix() + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl selectionCriteria = this.children[0];
+		return (this.exitTypeDescriptor != null && selectionCriteria.isCompilable() &&
+				CodeFlow.isBooleanCompatible(selectionCriteria.exitTypeDescriptor));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			// Nothing on the stack but something is needed
+			cf.loadTarget(mv);
+		}
+
+		Label skipIfNull = null;
+		if (isNullSafe()) {
+			skipIfNull = new Label();
+			Label continueLabel = new Label();
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNONNULL, continueLabel);
+			mv.visitInsn(POP);
+			mv.visitInsn(ACONST_NULL);
+			mv.visitJumpInsn(GOTO, skipIfNull);
+			mv.visitLabel(continueLabel);
+		}
+
+		mv.visitTypeInsn(CHECKCAST, "java/lang/Iterable");
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		int iteratorVariableId = cf.nextFreeVariableId();
+		mv.visitVarInsn(ASTORE, iteratorVariableId);
+		int resultVariableId = cf.nextFreeVariableId();
+		if (this.variant == ALL) {
+			mv.visitTypeInsn(NEW, "java/util/ArrayList");
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		}
+		else {
+			mv.visitInsn(ACONST_NULL);
+		}
+		mv.visitVarInsn(ASTORE, resultVariableId);
+		int elementVariableId = cf.nextFreeVariableId();
+
+		// The selection criteria are evaluated against each element in a method of their own
+		String criteriaMethodName = cf.generateNestedMethod(this.children[0]);
+		Label loopLabel = new Label();
+		Label endLabel = new Label();
+		mv.visitLabel(loopLabel);
+		mv.visitVarInsn(ALOAD, iteratorVariableId);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, endLabel);
+		mv.visitVarInsn(ALOAD, iteratorVariableId);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, elementVariableId);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, elementVariableId);
+		cf.loadEvaluationContext(mv);
+		cf.loadRoot(mv);
+		cf.invokeNestedMethod(mv, criteriaMethodName);
+		mv.visitTypeInsn(CHECKCAST, "java/lang/Boolean");
+		mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Boolean", "booleanValue", "()Z", false);
+		mv.visitJumpInsn(IFEQ, loopLabel);
+		if (this.variant == ALL) {
+			mv.visitVarInsn(ALOAD, resultVariableId);
+			mv.visitVarInsn(ALOAD, elementVariableId);
+			mv.visitMethodInsn(INVOKEVIRTUAL, "java/util/ArrayList", "add", "(Ljava/lang/Object;)Z", false);
+			mv.visitInsn(POP);
+			mv.visitJumpInsn(GOTO, loopLabel);
+		}
+		else {
+			mv.visitVarInsn(ALOAD, elementVariableId);
+			mv.visitVarInsn(ASTORE, resultVariableId);
+			mv.visitJumpInsn(GOTO, (this.variant == FIRST ? endLabel : loopLabel));
+		}
+		mv.visitLabel(endLabel);
+		mv.visitVarInsn(ALOAD, resultVariableId);
+
+		if (skipIfNull != null) {
+			mv.visitLabel(skipIfNull);
+		}
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 	private String prefix() {
 		return switch (this.variant) {
 			case ALL -> "?[";
@@ -74,11 +74,12 @@ public class VariableReference extends SpelNodeImpl {
 		TypedValue result;
 		if (THIS.equals(this.name)) {
 			result = state.getActiveContextObject();
-			// If the active context object (#this) is not the root context object (#root),
-			// that means that #this is being evaluated within a nested scope (for example,
-			// collection selection or collection project), which is not a compilable
+			// If the active context object (#this) is not the root context object of the
+			// current scope (#root, or the current element within collection selection or
+			// collection projection), that means that #this is being evaluated against an
+			// intermediate result in a compound expression, which is not a compilable
 			// expression, so we return the result without setting the exit type descriptor.
-			if (result != state.getRootContextObject()) {
+			if (result != state.getScopeRootContextObject()) {
 				return result;
 			}
 		}
@@ -140,8 +141,11 @@ public class VariableReference extends SpelNodeImpl {
 
 	@Override
 	public void generateCode(MethodVisitor mv, CodeFlow cf) {
-		if (THIS.equals(this.name) || ROOT.equals(this.name)) {
-			mv.visitVarInsn(ALOAD, 1);
+		if (THIS.equals(this.name)) {
+			cf.loadTarget(mv);
+		}
+		else if (ROOT.equals(this.name)) {
+			cf.loadRoot(mv);
 		}
 		else {
 			mv.visitVarInsn(ALOAD, 2);
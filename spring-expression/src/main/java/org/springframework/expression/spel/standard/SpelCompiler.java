@@ -16,9 +16,13 @@
 
 package org.springframework.expression.spel.standard;
 
+import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
@@ -31,6 +35,7 @@ import org.springframework.asm.Opcodes;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.CompiledExpression;
+import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.ast.SpelNodeImpl;
 import org.springframework.util.ClassUtils;
@@ -116,11 +121,44 @@ public final class SpelCompiler implements Opcodes {
 		}
 
 		if (logger.isDebugEnabled()) {
-			logger.debug("SpEL: unable to compile " + expression.toStringAST());
+			StringJoiner nodes = new StringJoiner(", ");
+			for (SpelNode node : findNonCompilableNodes(expression)) {
+				nodes.add(node.getClass().getSimpleName() + " '" + node.toStringAST() + "'");
+			}
+			logger.debug("SpEL: unable to compile " + expression.toStringAST() + " due to " + nodes);
 		}
 		return null;
 	}
 
+	/**
+	 * Find the innermost nodes of the given AST that are not compilable.
+	 */
+	static List<SpelNode> findNonCompilableNodes(SpelNode ast) {
+		List<SpelNode> result = new ArrayList<>();
+		addNonCompilableNodes(ast, result);
+		return result;
+	}
+
+	private static void addNonCompilableNodes(SpelNode node, List<SpelNode> result) {
+		if (node.isCompilable()) {
+			return;
+		}
+		Method generateCode = ClassUtils.getMethod(node.getClass(), "generateCode", MethodVisitor.class, CodeFlow.class);
+		if (generateCode.getDeclaringClass() == SpelNode.class) {
+			// No bytecode generation for this type of node at all
+			result.add(node);
+			return;
+		}
+		int count = result.size();
+		for (int i = 0; i < node.getChildCount(); i++) {
+			addNonCompilableNodes(node.getChild(i), result);
+		}
+		if (result.size() == count) {
+			// All children are compilable: the node itself prevents compilation
+			result.add(node);
+		}
+	}
+
 	private String getNextSuffix() {
 		return "%05d".formatted(this.suffixId.incrementAndGet());
 	}
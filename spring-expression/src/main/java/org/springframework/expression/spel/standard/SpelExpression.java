@@ -16,6 +16,7 @@
 
 package org.springframework.expression.spel.standard;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jspecify.annotations.Nullable;
@@ -549,6 +550,22 @@ public class SpelExpression implements Expression {
 		this.failedAttempts.set(0);
 	}
 
+	/**
+	 * Return the nodes of the Abstract Syntax Tree that currently prevent this
+	 * expression from being compiled, i.e. the innermost nodes that are not
+	 * {@linkplain SpelNode#isCompilable() compilable}.
+	 * <p>Since most nodes can only be compiled once the types involved are
+	 * known, this is meaningful after the expression has been evaluated in
+	 * interpreted mode at least once.
+	 * @return the nodes that prevent compilation, or an empty list if the
+	 * expression is compilable
+	 * @since 7.1
+	 * @see #compileExpression()
+	 */
+	public List<SpelNode> getNonCompilableNodes() {
+		return SpelCompiler.findNonCompilableNodes(this.ast);
+	}
+
 	/**
 	 * Return the Abstract Syntax Tree for the expression.
 	 */
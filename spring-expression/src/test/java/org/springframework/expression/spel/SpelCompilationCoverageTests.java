@@ -621,6 +621,49 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 			}
 			assertThat(classloadersUsed.size()).isGreaterThan(1);
 		}
+
+		@Test
+		void beanReference() {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setBeanResolver((ctx, beanName) -> new Person(beanName));
+
+			expression = parser.parseExpression("@joe.name");
+			assertCannotCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo("joe");
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo("joe");
+
+			expression = parser.parseExpression("@'jane.doe'.getName().length()");
+			assertThat(expression.getValue(context)).isEqualTo(8);
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo(8);
+		}
+
+		@Test
+		void nonCompilableNodes() {
+			SpelExpression spelExpression = parser.parseRaw("{1,2,3}.?[#this > 1].size() > 1");
+			assertThat(spelExpression.getNonCompilableNodes())
+					.extracting(SpelNode::toStringAST)
+					.containsExactly("#this", "size()");
+
+			assertThat(spelExpression.getValue()).isEqualTo(true);
+			assertThat(spelExpression.getNonCompilableNodes()).isEmpty();
+			assertCanCompile(spelExpression);
+			assertThat(spelExpression.getValue()).isEqualTo(true);
+
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("ints", new int[] {1, 2, 3});
+			spelExpression = parser.parseRaw("#ints.?[#this > 1]");
+			assertThat(spelExpression.getValue(context)).isEqualTo(new Integer[] {2, 3});
+			assertThat(spelExpression.getNonCompilableNodes())
+					.extracting(node -> node.getClass().getSimpleName())
+					.containsExactly("Selection");
+
+			spelExpression = parser.parseRaw("{1,2,3}.size() > 1");
+			spelExpression.getValue();
+			assertThat(spelExpression.getNonCompilableNodes()).isEmpty();
+			assertCanCompile(spelExpression);
+		}
 	}
 
 	@Nested
@@ -1626,6 +1669,141 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		}
 	}
 
+	@Nested
+	class SelectionAndProjectionTests {
+
+		@Test
+		void selection() {
+			List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+
+			expression = parser.parseExpression("?[#this > 2]");
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(3, 4, 5));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(3, 4, 5));
+			assertThat(expression.getValue(List.of(6, 1))).isEqualTo(List.of(6));
+
+			expression = parser.parseExpression("^[#this > 2]");
+			assertThat(expression.getValue(numbers)).isEqualTo(3);
+			assertCanCompile(expression);
+			assertThat(expression.getValue(numbers)).isEqualTo(3);
+			assertThat(expression.getValue(List.of(1, 2))).isNull();
+
+			expression = parser.parseExpression("$[#this > 2]");
+			assertThat(expression.getValue(numbers)).isEqualTo(5);
+			assertCanCompile(expression);
+			assertThat(expression.getValue(numbers)).isEqualTo(5);
+			assertThat(expression.getValue(List.of(1, 2))).isNull();
+
+			expression = parser.parseExpression("{'abc','d','ef'}.?[length() > 1].size()");
+			assertThat(expression.getValue()).isEqualTo(2);
+			assertCanCompile(expression);
+			assertThat(expression.getValue()).isEqualTo(2);
+		}
+
+		@Test
+		void selectionReferencingRoot() {
+			List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+
+			expression = parser.parseExpression("?[#this >= #root.size() - 1]");
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(4, 5));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(4, 5));
+			assertThat(expression.getValue(List.of(1, 2))).isEqualTo(List.of(1, 2));
+		}
+
+		@Test
+		void nullSafeSelection() {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("numbers", List.of(1, 2, 3));
+
+			expression = parser.parseExpression("#numbers?.?[#this > 1]");
+			assertThat(expression.getValue(context)).isEqualTo(List.of(2, 3));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo(List.of(2, 3));
+			context.setVariable("numbers", null);
+			assertThat(expression.getValue(context)).isNull();
+		}
+
+		@Test
+		void selectionNotCompilable() {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("numbers", Optional.of(List.of(1, 2, 3)));
+
+			expression = parser.parseExpression("#numbers?.?[#this > 1]");
+			assertThat(expression.getValue(context)).isEqualTo(List.of(2, 3));
+			assertCannotCompile(expression);
+
+			expression = parser.parseExpression("{'a':1,'b':2}.?[value > 1]");
+			assertThat(expression.getValue()).isEqualTo(Map.of("b", 2));
+			assertCannotCompile(expression);
+
+			expression = parser.parseExpression("{1,2,3}.?[#this]");
+			assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(expression::getValue);
+			assertCannotCompile(expression);
+		}
+
+		@Test
+		void projection() {
+			List<Integer> numbers = List.of(1, 2, 3);
+
+			expression = parser.parseExpression("![#this * 2]");
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(2, 4, 6));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(2, 4, 6));
+			assertThat(expression.getValue(List.of())).isEqualTo(List.of());
+
+			expression = parser.parseExpression("![#this > 1 ? 'y' : 'n']");
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of("n", "y", "y"));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of("n", "y", "y"));
+
+			expression = parser.parseExpression("![#this * #root.size()]");
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(3, 6, 9));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(numbers)).isEqualTo(List.of(3, 6, 9));
+
+			expression = parser.parseExpression("{'abc','d'}.![length()]");
+			assertThat(expression.getValue()).isEqualTo(List.of(3, 1));
+			assertCanCompile(expression);
+			assertThat(expression.getValue()).isEqualTo(List.of(3, 1));
+		}
+
+		@Test
+		void nestedSelectionAndProjection() {
+			expression = parser.parseExpression("{{1,2},{3,4,5}}.![#this.?[#this > #root]]");
+			assertThat(expression.getValue(2)).isEqualTo(List.of(List.of(), List.of(3, 4, 5)));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(2)).isEqualTo(List.of(List.of(), List.of(3, 4, 5)));
+			assertThat(expression.getValue(3)).isEqualTo(List.of(List.of(), List.of(4, 5)));
+		}
+
+		@Test
+		void nullSafeProjection() {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("names", List.of("abc", "d"));
+
+			expression = parser.parseExpression("#names?.![length()]");
+			assertThat(expression.getValue(context)).isEqualTo(List.of(3, 1));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo(List.of(3, 1));
+			context.setVariable("names", null);
+			assertThat(expression.getValue(context)).isNull();
+		}
+
+		@Test
+		void projectionNotCompilable() {
+			expression = parser.parseExpression("{'a':1,'b':2}.![value * 2]");
+			assertThat(expression.getValue()).isEqualTo(List.of(2, 4));
+			assertCannotCompile(expression);
+
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("ints", new int[] {1, 2});
+			expression = parser.parseExpression("#ints.![#this * 2]");
+			assertThat(expression.getValue(context)).isEqualTo(new Integer[] {2, 4});
+			assertCannotCompile(expression);
+		}
+	}
+
 	@Nested
 	class UnaryOperatorTests {
 
@@ -3706,7 +3884,7 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 
 			expression = parser.parseExpression("#negate(#ints.?[#this<2][0])");
 			assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
-			// Selection isn't compilable.
+			// Selection over an array isn't compilable.
 			assertThat(((SpelExpression) expression).getAST().isCompilable()).isFalse();
 		}
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+
+/**
+ * Benchmark for sending messages through a pipeline of
+ * {@link ExecutorSubscribableChannel channels}, each of which copies the
+ * headers of the message into a new message for the next channel.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ExecutorSubscribableChannelBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"false", "true"})
+		public boolean deferIdGeneration;
+
+		public IdTimestampMessageHeaderInitializer headerInitializer;
+
+		public ExecutorSubscribableChannel inboundChannel;
+
+		public Blackhole blackhole;
+
+		@Setup(Level.Trial)
+		public void setup(Blackhole blackhole) {
+			this.blackhole = blackhole;
+			this.headerInitializer = new IdTimestampMessageHeaderInitializer();
+			this.headerInitializer.setDeferIdGeneration(this.deferIdGeneration);
+
+			ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+			ExecutorSubscribableChannel outboundChannel = new ExecutorSubscribableChannel();
+			this.inboundChannel = new ExecutorSubscribableChannel();
+
+			this.inboundChannel.subscribe(message -> brokerChannel.send(copy(message)));
+			brokerChannel.subscribe(message -> outboundChannel.send(copy(message)));
+			outboundChannel.subscribe(this.blackhole::consume);
+		}
+
+		private Message<?> copy(Message<?> message) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+			this.headerInitializer.initHeaders(accessor);
+			return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+		}
+
+		public Message<?> createMessage() {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			this.headerInitializer.initHeaders(accessor);
+			accessor.setSessionId("session1");
+			accessor.setDestination("/topic/price");
+			return MessageBuilder.createMessage("payload", accessor.getMessageHeaders());
+		}
+	}
+
+
+	@Benchmark
+	public boolean send(BenchmarkState state) {
+		return state.inboundChannel.send(state.createMessage());
+	}
+
+}
@@ -115,7 +115,9 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 	private static volatile @Nullable IdGenerator idGenerator;
 
 	@SuppressWarnings("serial")
-	private final Map<String, Object> headers;
+	private volatile Map<String, Object> headers;
+
+	private transient volatile @Nullable IdGenerator deferredIdGenerator;
 
 
 	/**
@@ -134,7 +136,13 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 	 * @param timestamp the {@link #TIMESTAMP} header value
 	 */
 	protected MessageHeaders(@Nullable Map<String, Object> headers, @Nullable UUID id, @Nullable Long timestamp) {
-		this.headers = (headers != null ? new HashMap<>(headers) : new HashMap<>());
+		if (headers instanceof MessageHeaders original && id == ID_VALUE_NONE) {
+			// No need to generate a deferred ID that is about to be removed anyway
+			this.headers = new HashMap<>(original.headers);
+		}
+		else {
+			this.headers = (headers != null ? new HashMap<>(headers) : new HashMap<>());
+		}
 
 		if (id == null) {
 			this.headers.put(ID, getIdGenerator().generateId());
@@ -164,8 +172,9 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 	 * @param keysToIgnore the keys of the entries to ignore
 	 */
 	private MessageHeaders(MessageHeaders original, Set<String> keysToIgnore) {
-		this.headers = CollectionUtils.newHashMap(original.headers.size());
-		original.headers.forEach((key, value) -> {
+		Map<String, Object> originalHeaders = original.getHeaders();
+		this.headers = CollectionUtils.newHashMap(originalHeaders.size());
+		originalHeaders.forEach((key, value) -> {
 			if (!keysToIgnore.contains(key)) {
 				this.headers.put(key, value);
 			}
@@ -177,6 +186,41 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 		return this.headers;
 	}
 
+	/**
+	 * Defer the generation of the {@link #ID} header until it is first
+	 * accessed, either directly or through one of the {@code Map} views,
+	 * for headers that are immutable from here on. This is useful for messages
+	 * that are passed on and copied into new headers without their ID ever
+	 * being read.
+	 * @param idGenerator the generator to obtain the ID from on first access
+	 * @since 7.1
+	 */
+	protected void deferIdGeneration(IdGenerator idGenerator) {
+		this.deferredIdGenerator = idGenerator;
+	}
+
+	private Map<String, Object> getHeaders() {
+		if (this.deferredIdGenerator != null) {
+			synchronized (this) {
+				IdGenerator generator = this.deferredIdGenerator;
+				if (generator != null) {
+					UUID id = generator.generateId();
+					if (id != ID_VALUE_NONE) {
+						Map<String, Object> headers = new HashMap<>(this.headers);
+						headers.put(ID, id);
+						this.headers = headers;
+					}
+					this.deferredIdGenerator = null;
+				}
+			}
+		}
+		return this.headers;
+	}
+
+	private Map<String, Object> getHeaders(Object key) {
+		return (ID.equals(key) ? getHeaders() : this.headers);
+	}
+
 	protected static IdGenerator getIdGenerator() {
 		IdGenerator generator = idGenerator;
 		return (generator != null ? generator : defaultIdGenerator);
@@ -201,7 +245,7 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 
 	@SuppressWarnings("unchecked")
 	public <T> @Nullable T get(Object key, Class<T> type) {
-		Object value = this.headers.get(key);
+		Object value = getHeaders(key).get(key);
 		if (value == null) {
 			return null;
 		}
@@ -217,42 +261,42 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 
 	@Override
 	public boolean containsKey(Object key) {
-		return this.headers.containsKey(key);
+		return getHeaders(key).containsKey(key);
 	}
 
 	@Override
 	public boolean containsValue(Object value) {
-		return this.headers.containsValue(value);
+		return getHeaders().containsValue(value);
 	}
 
 	@Override
 	public Set<Map.Entry<String, Object>> entrySet() {
-		return Collections.unmodifiableMap(this.headers).entrySet();
+		return Collections.unmodifiableMap(getHeaders()).entrySet();
 	}
 
 	@Override
 	public @Nullable Object get(Object key) {
-		return this.headers.get(key);
+		return getHeaders(key).get(key);
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return this.headers.isEmpty();
+		return getHeaders().isEmpty();
 	}
 
 	@Override
 	public Set<String> keySet() {
-		return Collections.unmodifiableSet(this.headers.keySet());
+		return Collections.unmodifiableSet(getHeaders().keySet());
 	}
 
 	@Override
 	public int size() {
-		return this.headers.size();
+		return getHeaders().size();
 	}
 
 	@Override
 	public Collection<Object> values() {
-		return Collections.unmodifiableCollection(this.headers.values());
+		return Collections.unmodifiableCollection(getHeaders().values());
 	}
 
 
@@ -299,7 +343,7 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 
 	private void writeObject(ObjectOutputStream out) throws IOException {
 		Set<String> keysToIgnore = new HashSet<>();
-		this.headers.forEach((key, value) -> {
+		getHeaders().forEach((key, value) -> {
 			if (!(value instanceof Serializable)) {
 				keysToIgnore.add(key);
 			}
@@ -327,17 +371,17 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 
 	@Override
 	public boolean equals(@Nullable Object other) {
-		return (this == other || (other instanceof MessageHeaders that && this.headers.equals(that.headers)));
+		return (this == other || (other instanceof MessageHeaders that && getHeaders().equals(that.getHeaders())));
 	}
 
 	@Override
 	public int hashCode() {
-		return this.headers.hashCode();
+		return getHeaders().hashCode();
 	}
 
 	@Override
 	public String toString() {
-		return this.headers.toString();
+		return getHeaders().toString();
 	}
 
 }
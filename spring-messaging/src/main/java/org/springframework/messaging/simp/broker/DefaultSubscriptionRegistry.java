@@ -17,11 +17,13 @@
 package org.springframework.messaging.simp.broker;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
@@ -91,12 +93,15 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	private final SessionRegistry sessionRegistry = new SessionRegistry();
 
+	private final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+
 
 	/**
 	 * Specify the {@link PathMatcher} to use.
 	 */
 	public void setPathMatcher(PathMatcher pathMatcher) {
 		this.pathMatcher = pathMatcher;
+		this.subscriptionIndex.setSegmentIndexing(isSegmentIndexingSupported(pathMatcher));
 	}
 
 	/**
@@ -160,8 +165,21 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		Expression expression = getSelectorExpression(message.getHeaders());
 		Subscription subscription = new Subscription(subscriptionId, destination, isPattern, expression);
 
-		this.sessionRegistry.addSubscription(sessionId, subscription);
-		this.destinationCache.updateAfterNewSubscription(sessionId, subscription);
+		while (true) {
+			SessionInfo info = this.sessionRegistry.getOrCreateSession(sessionId);
+			// Update the index under the session's guard, in line with its removal
+			synchronized (info) {
+				if (info.isRemoved()) {
+					// Session removed concurrently -> register it again
+					continue;
+				}
+				if (info.addSubscription(subscription)) {
+					this.subscriptionIndex.addSubscription(sessionId, subscription);
+				}
+				this.destinationCache.updateAfterNewSubscription(sessionId, subscription);
+				return;
+			}
+		}
 	}
 
 	private @Nullable Expression getSelectorExpression(MessageHeaders headers) {
@@ -192,9 +210,12 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 	protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
 		SessionInfo info = this.sessionRegistry.getSession(sessionId);
 		if (info != null) {
-			Subscription subscription = info.removeSubscription(subscriptionId);
-			if (subscription != null) {
-				this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
+			synchronized (info) {
+				Subscription subscription = info.removeSubscription(subscriptionId);
+				if (subscription != null) {
+					this.subscriptionIndex.removeSubscription(sessionId, subscription);
+					this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
+				}
 			}
 		}
 	}
@@ -203,7 +224,13 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 	public void unregisterAllSubscriptions(String sessionId) {
 		SessionInfo info = this.sessionRegistry.removeSubscriptions(sessionId);
 		if (info != null) {
-			this.destinationCache.updateAfterRemovedSession(sessionId, info);
+			synchronized (info) {
+				info.markRemoved();
+				for (Subscription subscription : info.getSubscriptions()) {
+					this.subscriptionIndex.removeSubscription(sessionId, subscription);
+				}
+				this.destinationCache.updateAfterRemovedSession(sessionId, info);
+			}
 		}
 	}
 
@@ -228,6 +255,17 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		return result;
 	}
 
+	/**
+	 * Whether the given {@link PathMatcher} is known to match the literal
+	 * segments of a pattern as is, with '/' or '.' as separator, which allows
+	 * indexing pattern subscriptions by their leading segments.
+	 */
+	private static boolean isSegmentIndexingSupported(PathMatcher pathMatcher) {
+		return (pathMatcher.getClass() == AntPathMatcher.class &&
+				(pathMatcher.match("a/b", "a//b") || pathMatcher.match("a.b", "a..b")) &&
+				!pathMatcher.match("a", "A") && !pathMatcher.match("a", " a"));
+	}
+
 	private boolean evaluateExpression(@Nullable Expression expression, Message<?> message) {
 		if (expression == null) {
 			return true;
@@ -281,16 +319,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 		private LinkedMultiValueMap<String, String> computeMatchingSubscriptions(String destination) {
 			LinkedMultiValueMap<String, String> sessionIdToSubscriptionIds = new LinkedMultiValueMap<>();
-			DefaultSubscriptionRegistry.this.sessionRegistry.forEachSubscription((sessionId, subscription) -> {
-				if (subscription.isPattern()) {
-					if (pathMatcher.match(subscription.getDestination(), destination)) {
-						addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
-					}
-				}
-				else if (destination.equals(subscription.getDestination())) {
-					addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
-				}
-			});
+			DefaultSubscriptionRegistry.this.subscriptionIndex.forEachMatch(destination, (sessionId, subscriptionId) ->
+					addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscriptionId));
 			return sessionIdToSubscriptionIds;
 		}
 
@@ -386,6 +416,204 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		}
 	}
 
+	/**
+	 * Index of all subscriptions by destination. Subscriptions to a specific
+	 * destination are looked up directly, while pattern subscriptions are held
+	 * in a tree keyed by the literal leading segments of their pattern, so that
+	 * resolving a destination only matches the patterns found along the path of
+	 * its own segments, each distinct pattern once, rather than every pattern
+	 * subscription in the registry.
+	 * <p>Subscriptions are held in a concurrent set per destination or pattern,
+	 * updated in constant time under the lock of that key only, while lookups
+	 * proceed without locking.
+	 */
+	private final class SubscriptionIndex {
+
+		private static final String SEGMENT_DELIMITERS = "/.";
+
+		// destination -> subscriptions
+		private final Map<String, Set<SessionSubscription>> destinationSubscriptions = new ConcurrentHashMap<>();
+
+		private volatile IndexNode root = new IndexNode();
+
+		private volatile boolean segmentIndexing = true;
+
+		public void forEachMatch(String destination, BiConsumer<String, String> consumer) {
+			Set<SessionSubscription> subscriptions = this.destinationSubscriptions.get(destination);
+			if (subscriptions != null) {
+				for (SessionSubscription subscription : subscriptions) {
+					consumer.accept(subscription.sessionId(), subscription.subscriptionId());
+				}
+			}
+			IndexNode node = this.root;
+			node.forEachMatch(destination, consumer);
+			if (node.hasChildren()) {
+				for (String segment : StringUtils.tokenizeToStringArray(destination, SEGMENT_DELIMITERS, false, true)) {
+					node = node.getChild(segment);
+					if (node == null) {
+						break;
+					}
+					node.forEachMatch(destination, consumer);
+				}
+			}
+		}
+
+		public void addSubscription(String sessionId, Subscription subscription) {
+			SessionSubscription entry = new SessionSubscription(sessionId, subscription.getId());
+			if (subscription.isPattern()) {
+				String pattern = subscription.getDestination();
+				this.root.add(getLiteralSegments(pattern), 0, pattern, entry);
+			}
+			else {
+				this.destinationSubscriptions.compute(subscription.getDestination(),
+						(destination, subscriptions) -> added(subscriptions, entry));
+			}
+		}
+
+		public void removeSubscription(String sessionId, Subscription subscription) {
+			SessionSubscription entry = new SessionSubscription(sessionId, subscription.getId());
+			if (subscription.isPattern()) {
+				String pattern = subscription.getDestination();
+				this.root.remove(getLiteralSegments(pattern), 0, pattern, entry);
+			}
+			else {
+				this.destinationSubscriptions.computeIfPresent(subscription.getDestination(),
+						(destination, subscriptions) -> removed(subscriptions, entry));
+			}
+		}
+
+		/**
+		 * Switch between indexing pattern subscriptions by their leading
+		 * segments, or matching all of them against every destination,
+		 * re-building the index of existing pattern subscriptions.
+		 * <p>Meant to be called on configuration, before any subscription
+		 * is added concurrently.
+		 */
+		public synchronized void setSegmentIndexing(boolean segmentIndexing) {
+			if (this.segmentIndexing == segmentIndexing) {
+				return;
+			}
+			IndexNode oldRoot = this.root;
+			IndexNode newRoot = new IndexNode();
+			this.segmentIndexing = segmentIndexing;
+			oldRoot.forEachEntry((pattern, entry) -> newRoot.add(getLiteralSegments(pattern), 0, pattern, entry));
+			this.root = newRoot;
+		}
+
+		/**
+		 * Return the leading segments of the given pattern up until the first
+		 * segment with a wildcard or URI variable. Segments are split on both
+		 * '/' and '.', which keeps them a prefix of the same split of any
+		 * destination matched by an {@link AntPathMatcher} with either separator.
+		 */
+		private String[] getLiteralSegments(String pattern) {
+			if (!this.segmentIndexing) {
+				return new String[0];
+			}
+			String[] segments = StringUtils.tokenizeToStringArray(pattern, SEGMENT_DELIMITERS, false, true);
+			for (int i = 0; i < segments.length; i++) {
+				String segment = segments[i];
+				if (segment.indexOf('*') != -1 || segment.indexOf('?') != -1 || segment.indexOf('{') != -1) {
+					return Arrays.copyOf(segments, i);
+				}
+			}
+			return segments;
+		}
+
+		private static Set<SessionSubscription> added(
+				@Nullable Set<SessionSubscription> subscriptions, SessionSubscription entry) {
+
+			Set<SessionSubscription> result = (subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet(2));
+			result.add(entry);
+			return result;
+		}
+
+		private static @Nullable Set<SessionSubscription> removed(
+				Set<SessionSubscription> subscriptions, SessionSubscription entry) {
+
+			subscriptions.remove(entry);
+			return (subscriptions.isEmpty() ? null : subscriptions);
+		}
+	}
+
+	/**
+	 * Node of {@link SubscriptionIndex}, holding the pattern subscriptions whose
+	 * literal leading segments end at this node.
+	 * <p>Updates descend from the root through {@code compute} calls on each
+	 * node's children, so that a node is only pruned once empty, and not while
+	 * a subscription is being added below it.
+	 */
+	private final class IndexNode {
+
+		// segment -> child node
+		private final Map<String, IndexNode> children = new ConcurrentHashMap<>(4);
+
+		// pattern -> subscriptions
+		private final Map<String, Set<SessionSubscription>> patternSubscriptions = new ConcurrentHashMap<>(4);
+
+		public boolean hasChildren() {
+			return !this.children.isEmpty();
+		}
+
+		public boolean isEmpty() {
+			return (this.children.isEmpty() && this.patternSubscriptions.isEmpty());
+		}
+
+		public @Nullable IndexNode getChild(String segment) {
+			return this.children.get(segment);
+		}
+
+		public void add(String[] segments, int index, String pattern, SessionSubscription entry) {
+			if (index == segments.length) {
+				this.patternSubscriptions.compute(pattern,
+						(_pattern, subscriptions) -> SubscriptionIndex.added(subscriptions, entry));
+				return;
+			}
+			this.children.compute(segments[index], (segment, child) -> {
+				IndexNode node = (child != null ? child : new IndexNode());
+				node.add(segments, index + 1, pattern, entry);
+				return node;
+			});
+		}
+
+		public void remove(String[] segments, int index, String pattern, SessionSubscription entry) {
+			if (index == segments.length) {
+				this.patternSubscriptions.computeIfPresent(pattern,
+						(_pattern, subscriptions) -> SubscriptionIndex.removed(subscriptions, entry));
+				return;
+			}
+			this.children.computeIfPresent(segments[index], (segment, child) -> {
+				child.remove(segments, index + 1, pattern, entry);
+				return (child.isEmpty() ? null : child);
+			});
+		}
+
+		public void forEachMatch(String destination, BiConsumer<String, String> consumer) {
+			if (this.patternSubscriptions.isEmpty()) {
+				return;
+			}
+			this.patternSubscriptions.forEach((pattern, subscriptions) -> {
+				if (pathMatcher.match(pattern, destination)) {
+					for (SessionSubscription subscription : subscriptions) {
+						consumer.accept(subscription.sessionId(), subscription.subscriptionId());
+					}
+				}
+			});
+		}
+
+		public void forEachEntry(BiConsumer<String, SessionSubscription> consumer) {
+			this.patternSubscriptions.forEach((pattern, subscriptions) -> subscriptions.forEach(
+					subscription -> consumer.accept(pattern, subscription)));
+			this.children.values().forEach(child -> child.forEachEntry(consumer));
+		}
+	}
+
+	/**
+	 * Reference to a subscription within a session, as held by {@link SubscriptionIndex}.
+	 */
+	private record SessionSubscription(String sessionId, String subscriptionId) {
+	}
+
 	/**
 	 * Registry for all session and their subscriptions.
 	 */
@@ -397,14 +625,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			return this.sessions.get(sessionId);
 		}
 
-		public void forEachSubscription(BiConsumer<String, Subscription> consumer) {
-			this.sessions.forEach((sessionId, info) ->
-				info.getSubscriptions().forEach(subscription -> consumer.accept(sessionId, subscription)));
-		}
-
-		public void addSubscription(String sessionId, Subscription subscription) {
-			SessionInfo info = this.sessions.computeIfAbsent(sessionId, _sessionId -> new SessionInfo());
-			info.addSubscription(subscription);
+		public SessionInfo getOrCreateSession(String sessionId) {
+			return this.sessions.computeIfAbsent(sessionId, _sessionId -> new SessionInfo());
 		}
 
 		public @Nullable SessionInfo removeSubscriptions(String sessionId) {
@@ -420,6 +642,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		// subscriptionId -> Subscription
 		private final Map<String, Subscription> subscriptionMap = new ConcurrentHashMap<>();
 
+		private boolean removed;
+
 		public Collection<Subscription> getSubscriptions() {
 			return this.subscriptionMap.values();
 		}
@@ -428,13 +652,29 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			return this.subscriptionMap.get(subscriptionId);
 		}
 
-		public void addSubscription(Subscription subscription) {
-			this.subscriptionMap.putIfAbsent(subscription.getId(), subscription);
+		public boolean addSubscription(Subscription subscription) {
+			return (this.subscriptionMap.putIfAbsent(subscription.getId(), subscription) == null);
 		}
 
 		public @Nullable Subscription removeSubscription(String subscriptionId) {
 			return this.subscriptionMap.remove(subscriptionId);
 		}
+
+		/**
+		 * Mark this session as removed from the {@link SessionRegistry},
+		 * to be called while holding the lock of this instance.
+		 */
+		public void markRemoved() {
+			this.removed = true;
+		}
+
+		/**
+		 * Whether this session has been removed from the {@link SessionRegistry},
+		 * to be called while holding the lock of this instance.
+		 */
+		public boolean isRemoved() {
+			return this.removed;
+		}
 	}
 
 	/**
@@ -18,11 +18,17 @@ package org.springframework.messaging.simp.broker;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jspecify.annotations.Nullable;
 
@@ -67,6 +73,12 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 
 	private @Nullable MessageHeaderInitializer headerInitializer;
 
+	private @Nullable Executor dispatchExecutor;
+
+	private int dispatchLaneCount = Runtime.getRuntime().availableProcessors();
+
+	private DispatchLane @Nullable [] dispatchLanes;
+
 
 	private SubscriptionRegistry subscriptionRegistry;
 
@@ -252,6 +264,70 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		return this.headerInitializer;
 	}
 
+	/**
+	 * Configure an {@link Executor} to send messages to subscribers with,
+	 * instead of sending them on the thread that published the message.
+	 * <p>Sessions are assigned to one of a fixed number of
+	 * {@link #setDispatchLaneCount lanes} by their id, and each lane sends
+	 * its messages one at a time, in the order of publication. For each
+	 * published message, the sends to all subscribers within the same lane
+	 * are handed off to the executor as a single task. Other messages for a
+	 * session, such as the CONNECT_ACK, DISCONNECT_ACK and heartbeats, are
+	 * sent through the same lane, so they cannot overtake messages queued
+	 * before them.
+	 * <p>Note that if the {@code "clientOutboundChannel"} is backed by a
+	 * thread pool, the order of messages within a session also depends on
+	 * {@link #setPreservePublishOrder preservePublishOrder}.
+	 * <p>By default this is not set.
+	 * @since 7.1
+	 */
+	public void setDispatchExecutor(@Nullable Executor dispatchExecutor) {
+		this.dispatchExecutor = dispatchExecutor;
+		initDispatchLanes();
+	}
+
+	/**
+	 * Return the configured dispatch executor.
+	 * @since 7.1
+	 */
+	public @Nullable Executor getDispatchExecutor() {
+		return this.dispatchExecutor;
+	}
+
+	/**
+	 * Configure the number of lanes to partition sessions into when a
+	 * {@link #setDispatchExecutor dispatchExecutor} is configured, i.e. the
+	 * maximum number of threads sending messages to subscribers at a time.
+	 * <p>By default this is set to the number of available processors.
+	 * @since 7.1
+	 */
+	public void setDispatchLaneCount(int dispatchLaneCount) {
+		Assert.isTrue(dispatchLaneCount > 0, "Dispatch lane count must be greater than 0");
+		this.dispatchLaneCount = dispatchLaneCount;
+		initDispatchLanes();
+	}
+
+	/**
+	 * Return the configured number of dispatch lanes.
+	 * @since 7.1
+	 */
+	public int getDispatchLaneCount() {
+		return this.dispatchLaneCount;
+	}
+
+	private void initDispatchLanes() {
+		if (this.dispatchExecutor != null) {
+			DispatchLane[] lanes = new DispatchLane[this.dispatchLaneCount];
+			for (int i = 0; i < lanes.length; i++) {
+				lanes[i] = new DispatchLane(this.dispatchExecutor);
+			}
+			this.dispatchLanes = lanes;
+		}
+		else {
+			this.dispatchLanes = null;
+		}
+	}
+
 
 	@Override
 	public void startInternal() {
@@ -329,7 +405,7 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 				connectAck.setHeader(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER, message);
 				connectAck.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, heartbeatOut);
 				Message<byte[]> messageOut = MessageBuilder.createMessage(EMPTY_PAYLOAD, connectAck.getMessageHeaders());
-				getClientOutboundChannel().send(messageOut);
+				sendToSession(sessionId, getClientOutboundChannel(), messageOut);
 			}
 		}
 		else if (SimpMessageType.DISCONNECT.equals(messageType)) {
@@ -385,7 +461,26 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		}
 		initHeaders(accessor);
 		Message<byte[]> message = MessageBuilder.createMessage(EMPTY_PAYLOAD, accessor.getMessageHeaders());
-		getClientOutboundChannel().send(message);
+		sendToSession(sessionId, getClientOutboundChannel(), message);
+	}
+
+	/**
+	 * Send a message to the given session, through the session's dispatch
+	 * lane if a {@link #setDispatchExecutor dispatchExecutor} is configured,
+	 * so that it cannot overtake messages sent to subscribers before it.
+	 */
+	private void sendToSession(String sessionId, MessageChannel channel, Message<?> message) {
+		DispatchLane[] lanes = this.dispatchLanes;
+		if (lanes != null) {
+			lanes[getDispatchLaneIndex(sessionId, lanes.length)].dispatch(() -> channel.send(message));
+		}
+		else {
+			channel.send(message);
+		}
+	}
+
+	private static int getDispatchLaneIndex(String sessionId, int laneCount) {
+		return Math.floorMod(sessionId.hashCode(), laneCount);
 	}
 
 	protected void sendMessageToSubscribers(@Nullable String destination, Message<?> message) {
@@ -394,32 +489,65 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 			logger.debug("Broadcasting to " + subscriptions.size() + " sessions.");
 		}
 		long now = System.currentTimeMillis();
-		subscriptions.forEach((sessionId, subscriptionIds) -> {
-			for (String subscriptionId : subscriptionIds) {
-				SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
-				initHeaders(headerAccessor);
-				headerAccessor.setSessionId(sessionId);
-				headerAccessor.setSubscriptionId(subscriptionId);
-				headerAccessor.copyHeadersIfAbsent(message.getHeaders());
-				headerAccessor.setLeaveMutable(true);
-				Object payload = message.getPayload();
-				Message<?> reply = MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
+		DispatchLane[] lanes = this.dispatchLanes;
+		if (lanes == null) {
+			subscriptions.forEach((sessionId, subscriptionIds) -> {
 				SessionInfo info = this.sessions.get(sessionId);
 				if (info != null) {
-					try {
-						info.getClientOutboundChannel().send(reply);
-					}
-					catch (Throwable ex) {
-						if (logger.isErrorEnabled()) {
-							logger.error("Failed to send " + message, ex);
-						}
-					}
-					finally {
-						info.setLastWriteTime(now);
+					sendMessageToSession(info, subscriptionIds, message, now);
+				}
+			});
+			return;
+		}
+		// Resolve sessions on the publishing thread, so that messages published
+		// before a DISCONNECT are still sent, ahead of the DISCONNECT_ACK
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		List<SessionDispatch>[] batches = new List[lanes.length];
+		for (Map.Entry<String, List<String>> entry : subscriptions.entrySet()) {
+			SessionInfo info = this.sessions.get(entry.getKey());
+			if (info != null) {
+				int index = getDispatchLaneIndex(entry.getKey(), lanes.length);
+				if (batches[index] == null) {
+					batches[index] = new ArrayList<>();
+				}
+				batches[index].add(new SessionDispatch(info, entry.getValue()));
+			}
+		}
+		for (int i = 0; i < lanes.length; i++) {
+			List<SessionDispatch> batch = batches[i];
+			if (batch != null) {
+				lanes[i].dispatch(() -> {
+					for (SessionDispatch dispatch : batch) {
+						sendMessageToSession(dispatch.info(), dispatch.subscriptionIds(), message, now);
 					}
+				});
+			}
+		}
+	}
+
+	private void sendMessageToSession(SessionInfo info, List<String> subscriptionIds, Message<?> message, long now) {
+		String sessionId = info.getSessionId();
+		for (String subscriptionId : subscriptionIds) {
+			SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			initHeaders(headerAccessor);
+			headerAccessor.setSessionId(sessionId);
+			headerAccessor.setSubscriptionId(subscriptionId);
+			headerAccessor.copyHeadersIfAbsent(message.getHeaders());
+			headerAccessor.setLeaveMutable(true);
+			Object payload = message.getPayload();
+			Message<?> reply = MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
+			try {
+				info.getClientOutboundChannel().send(reply);
+			}
+			catch (Throwable ex) {
+				if (logger.isErrorEnabled()) {
+					logger.error("Failed to send " + message, ex);
 				}
 			}
-		});
+			finally {
+				info.setLastWriteTime(now);
+			}
+		}
 	}
 
 	@Override
@@ -505,6 +633,63 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 	}
 
 
+	/**
+	 * Subscriptions of a session to send a published message to.
+	 */
+	private record SessionDispatch(SessionInfo info, List<String> subscriptionIds) {
+	}
+
+
+	/**
+	 * Sequence of dispatch tasks for a subset of sessions, run one at a time
+	 * and in order, without holding on to a thread of the executor when idle.
+	 */
+	private final class DispatchLane implements Runnable {
+
+		private final Executor executor;
+
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		DispatchLane(Executor executor) {
+			this.executor = executor;
+		}
+
+		public void dispatch(Runnable task) {
+			this.tasks.add(task);
+			if (this.scheduled.compareAndSet(false, true)) {
+				try {
+					this.executor.execute(this);
+				}
+				catch (Throwable ex) {
+					this.scheduled.set(false);
+					throw ex;
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			do {
+				Runnable task;
+				while ((task = this.tasks.poll()) != null) {
+					try {
+						task.run();
+					}
+					catch (Throwable ex) {
+						if (logger.isErrorEnabled()) {
+							logger.error("Failed to dispatch message to subscribers", ex);
+						}
+					}
+				}
+				this.scheduled.set(false);
+			}
+			while (!this.tasks.isEmpty() && this.scheduled.compareAndSet(false, true));
+		}
+	}
+
+
 	private class HeartbeatTask implements Runnable {
 
 		@Override
@@ -524,7 +709,8 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 					initHeaders(accessor);
 					accessor.setLeaveMutable(true);
 					MessageHeaders headers = accessor.getMessageHeaders();
-					info.getClientOutboundChannel().send(MessageBuilder.createMessage(EMPTY_PAYLOAD, headers));
+					sendToSession(info.getSessionId(), info.getClientOutboundChannel(),
+							MessageBuilder.createMessage(EMPTY_PAYLOAD, headers));
 				}
 			}
 		}
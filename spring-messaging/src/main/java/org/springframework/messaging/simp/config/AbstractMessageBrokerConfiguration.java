@@ -164,6 +164,7 @@ public abstract class AbstractMessageBrokerConfiguration implements ApplicationC
 		if (reg.hasInterceptors()) {
 			channel.setInterceptors(reg.getInterceptors());
 		}
+		channel.setBatchSize(reg.getBatchSize());
 		return channel;
 	}
 
@@ -215,6 +216,7 @@ public abstract class AbstractMessageBrokerConfiguration implements ApplicationC
 		if (registration.hasInterceptors()) {
 			channel.setInterceptors(registration.getInterceptors());
 		}
+		channel.setBatchSize(registration.getBatchSize());
 		return channel;
 	}
 
@@ -257,6 +259,7 @@ public abstract class AbstractMessageBrokerConfiguration implements ApplicationC
 		registration.interceptors(new ImmutableMessageChannelInterceptor());
 		channel.setLogger(SimpLogging.forLog(channel.getLogger()));
 		channel.setInterceptors(registration.getInterceptors());
+		channel.setBatchSize(registration.getBatchSize());
 		return channel;
 	}
 
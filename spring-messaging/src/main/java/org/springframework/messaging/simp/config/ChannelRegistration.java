@@ -44,6 +44,8 @@ public class ChannelRegistration {
 
 	private final List<ChannelInterceptor> interceptors = new ArrayList<>();
 
+	private int batchSize = 1;
+
 
 	/**
 	 * Configure the thread pool backing this message channel.
@@ -87,6 +89,20 @@ public class ChannelRegistration {
 		return this;
 	}
 
+	/**
+	 * Configure the maximum number of messages that an executor thread hands
+	 * to a subscriber of this message channel in one go.
+	 * <p>By default, this is set to 1, i.e. every message is dispatched to
+	 * each subscriber as a separate executor task.
+	 * @param batchSize the maximum number of messages per batch
+	 * @since 7.1
+	 * @see org.springframework.messaging.support.ExecutorSubscribableChannel#setBatchSize(int)
+	 */
+	public ChannelRegistration batchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
 
 	protected boolean hasExecutor() {
 		return (this.registration != null || this.executor != null);
@@ -129,4 +145,12 @@ public class ChannelRegistration {
 		return this.interceptors;
 	}
 
+	/**
+	 * Return the configured batch size.
+	 * @since 7.1
+	 */
+	protected int getBatchSize() {
+		return this.batchSize;
+	}
+
 }
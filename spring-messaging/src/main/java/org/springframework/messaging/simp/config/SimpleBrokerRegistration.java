@@ -16,6 +16,8 @@
 
 package org.springframework.messaging.simp.config;
 
+import java.util.concurrent.Executor;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.messaging.MessageChannel;
@@ -38,6 +40,10 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 
 	private @Nullable String selectorHeaderName;
 
+	private @Nullable Executor dispatchExecutor;
+
+	private @Nullable Integer dispatchLaneCount;
+
 
 	/**
 	 * Create a new {@code SimpleBrokerRegistration}.
@@ -99,6 +105,32 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 		this.selectorHeaderName = selectorHeaderName;
 	}
 
+	/**
+	 * Configure an {@link Executor} to send messages to subscribers with,
+	 * partitioning sessions into a number of lanes that each send messages
+	 * in order of publication.
+	 * <p>By default this is not set, and messages are sent to subscribers on
+	 * the thread that published them.
+	 * @since 7.1
+	 * @see SimpleBrokerMessageHandler#setDispatchExecutor
+	 */
+	public SimpleBrokerRegistration setDispatchExecutor(Executor dispatchExecutor) {
+		this.dispatchExecutor = dispatchExecutor;
+		return this;
+	}
+
+	/**
+	 * Configure the number of lanes to partition sessions into when a
+	 * {@link #setDispatchExecutor dispatchExecutor} is configured.
+	 * <p>By default this is set to the number of available processors.
+	 * @since 7.1
+	 * @see SimpleBrokerMessageHandler#setDispatchLaneCount
+	 */
+	public SimpleBrokerRegistration setDispatchLaneCount(int dispatchLaneCount) {
+		this.dispatchLaneCount = dispatchLaneCount;
+		return this;
+	}
+
 
 	@Override
 	protected SimpleBrokerMessageHandler getMessageHandler(SubscribableChannel brokerChannel) {
@@ -111,6 +143,12 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 			handler.setHeartbeatValue(this.heartbeat);
 		}
 		handler.setSelectorHeaderName(this.selectorHeaderName);
+		if (this.dispatchLaneCount != null) {
+			handler.setDispatchLaneCount(this.dispatchLaneCount);
+		}
+		if (this.dispatchExecutor != null) {
+			handler.setDispatchExecutor(this.dispatchExecutor);
+		}
 		return handler;
 	}
 
@@ -16,7 +16,6 @@
 
 package org.springframework.messaging.simp.stomp;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -32,7 +31,6 @@ import org.springframework.messaging.support.MessageHeaderInitializer;
 import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.StreamUtils;
 
 /**
  * Decodes one or more STOMP frames contained in a {@link ByteBuffer}.
@@ -53,6 +51,24 @@ public class StompDecoder {
 
 	private static final Log logger = SimpLogging.forLogName(StompDecoder.class);
 
+	private static final String[] COMMAND_NAMES = {
+			"SEND", "SUBSCRIBE", "UNSUBSCRIBE", "ACK", "NACK", "MESSAGE", "CONNECT", "CONNECTED", "STOMP",
+			"DISCONNECT", "BEGIN", "COMMIT", "ABORT", "RECEIPT", "ERROR"};
+
+	private static final String[] HEADER_NAMES = {
+			StompHeaderAccessor.STOMP_DESTINATION_HEADER, StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER,
+			StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER, StompHeaderAccessor.STOMP_ID_HEADER,
+			StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER, StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER,
+			StompHeaderAccessor.STOMP_RECEIPT_HEADER, StompHeaderAccessor.STOMP_ACK_HEADER,
+			StompHeaderAccessor.STOMP_HOST_HEADER, StompHeaderAccessor.STOMP_ACCEPT_VERSION_HEADER,
+			StompHeaderAccessor.STOMP_HEARTBEAT_HEADER, StompHeaderAccessor.STOMP_LOGIN_HEADER,
+			StompHeaderAccessor.STOMP_PASSCODE_HEADER, "transaction"};
+
+	private static final byte[][] COMMAND_NAME_BYTES = toBytes(COMMAND_NAMES);
+
+	private static final byte[][] HEADER_NAME_BYTES = toBytes(HEADER_NAMES);
+
+
 	private @Nullable MessageHeaderInitializer headerInitializer;
 
 
@@ -206,11 +222,12 @@ public class StompDecoder {
 	}
 
 	private String readCommand(ByteBuffer byteBuffer) {
-		ByteArrayOutputStream command = new ByteArrayOutputStream(256);
-		while (byteBuffer.remaining() > 0 && !tryConsumeEndOfLine(byteBuffer)) {
-			command.write(byteBuffer.get());
-		}
-		return StreamUtils.copyToString(command, StandardCharsets.UTF_8);
+		int start = byteBuffer.position();
+		int end = findEndOfLine(byteBuffer, start);
+		String command = readString(byteBuffer, start, end, COMMAND_NAMES, COMMAND_NAME_BYTES);
+		byteBuffer.position(end);
+		tryConsumeEndOfLine(byteBuffer);
+		return command;
 	}
 
 	private void readHeaders(ByteBuffer byteBuffer, StompHeaderAccessor headerAccessor, StompCommand command) {
@@ -220,27 +237,26 @@ public class StompDecoder {
 				command != StompCommand.STOMP);
 
 		while (true) {
-			ByteArrayOutputStream headerStream = new ByteArrayOutputStream(256);
-			boolean headerComplete = false;
-			while (byteBuffer.hasRemaining()) {
-				if (tryConsumeEndOfLine(byteBuffer)) {
-					headerComplete = true;
-					break;
-				}
-				headerStream.write(byteBuffer.get());
-			}
-			if (headerStream.size() > 0 && headerComplete) {
-				String header = StreamUtils.copyToString(headerStream, StandardCharsets.UTF_8);
-				int colonIndex = header.indexOf(':');
-				if (colonIndex <= 0) {
+			int start = byteBuffer.position();
+			int end = findEndOfLine(byteBuffer, start);
+			byteBuffer.position(end);
+			boolean headerComplete = tryConsumeEndOfLine(byteBuffer);
+			if (end > start && headerComplete) {
+				int colonIndex = indexOf(byteBuffer, (byte) ':', start, end);
+				if (colonIndex == -1 || colonIndex == start) {
 					if (byteBuffer.remaining() > 0) {
+						String header = readString(byteBuffer, start, end, null, null);
 						throw new StompConversionException("Illegal header: '" + header +
 								"'. A header must be of the form <name>:[<value>].");
 					}
 				}
 				else {
-					String headerName = shouldUnescape ? unescape(header.substring(0, colonIndex)) : header.substring(0, colonIndex);
-					String headerValue = shouldUnescape ? unescape(header.substring(colonIndex + 1)) : header.substring(colonIndex + 1);
+					String headerName = readString(byteBuffer, start, colonIndex, HEADER_NAMES, HEADER_NAME_BYTES);
+					String headerValue = readString(byteBuffer, colonIndex + 1, end, null, null);
+					if (shouldUnescape) {
+						headerName = unescape(headerName);
+						headerValue = unescape(headerValue);
+					}
 					try {
 						headerAccessor.addNativeHeader(headerName, headerValue);
 					}
@@ -325,20 +341,82 @@ public class StompDecoder {
 			}
 		}
 		else {
-			ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
-			while (byteBuffer.remaining() > 0) {
-				byte b = byteBuffer.get();
-				if (b == 0) {
-					return payload.toByteArray();
-				}
-				else {
-					payload.write(b);
-				}
+			int end = indexOf(byteBuffer, (byte) 0, byteBuffer.position(), byteBuffer.limit());
+			if (end != -1) {
+				byte[] payload = new byte[end - byteBuffer.position()];
+				byteBuffer.get(payload);
+				byteBuffer.get();
+				return payload;
 			}
+			byteBuffer.position(byteBuffer.limit());
 		}
 		return null;
 	}
 
+	/**
+	 * Find the index of the first '\n' or '\r' from the given index on,
+	 * or the limit of the buffer if there is none.
+	 */
+	private static int findEndOfLine(ByteBuffer byteBuffer, int from) {
+		for (int i = from; i < byteBuffer.limit(); i++) {
+			byte b = byteBuffer.get(i);
+			if (b == '\n' || b == '\r') {
+				return i;
+			}
+		}
+		return byteBuffer.limit();
+	}
+
+	private static int indexOf(ByteBuffer byteBuffer, byte value, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (byteBuffer.get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Read the String between the given indexes without changing the position
+	 * of the buffer, returning the matching constant from the given names
+	 * rather than a new String, if any.
+	 */
+	private static String readString(ByteBuffer byteBuffer, int start, int end,
+			String @Nullable [] names, byte @Nullable [][] nameBytes) {
+
+		int length = end - start;
+		if (names != null && nameBytes != null) {
+			for (int i = 0; i < names.length; i++) {
+				if (nameBytes[i].length == length && matches(byteBuffer, start, nameBytes[i])) {
+					return names[i];
+				}
+			}
+		}
+		if (byteBuffer.hasArray()) {
+			return new String(byteBuffer.array(), byteBuffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[length];
+		byteBuffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static boolean matches(ByteBuffer byteBuffer, int start, byte[] bytes) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (byteBuffer.get(start + i) != bytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte[][] toBytes(String[] names) {
+		byte[][] bytes = new byte[names.length][];
+		for (int i = 0; i < names.length; i++) {
+			bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+		}
+		return bytes;
+	}
+
 	/**
 	 * Try to read an EOL incrementing the buffer position if successful.
 	 * @return whether an EOL was consumed
@@ -34,6 +34,8 @@ import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 
 /**
  * An encoder for STOMP frames.
@@ -53,6 +55,11 @@ public class StompEncoder {
 
 	private static final int HEADER_KEY_CACHE_LIMIT = 32;
 
+	private static final List<String> FRAME_SPECIFIC_MESSAGE_HEADERS = List.of(
+			StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER, StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER);
+
+	private static final byte[] MESSAGE_COMMAND_BYTES = StompCommand.MESSAGE.toString().getBytes(StandardCharsets.UTF_8);
+
 
 	private final Map<String, byte[]> headerKeyAccessCache = new ConcurrentHashMap<>(HEADER_KEY_CACHE_LIMIT);
 
@@ -71,6 +78,13 @@ public class StompEncoder {
 				}
 			};
 
+	// payload -> encoded headers of the last MESSAGE frame for the payload
+	private final Map<byte[], SharedHeaders> sharedHeadersCache =
+			new ConcurrentReferenceHashMap<>(64, ReferenceType.WEAK);
+
+	// identity hash code of the payload of the last MESSAGE frame
+	private volatile int lastMessagePayloadId;
+
 
 	/**
 	 * Encodes the given STOMP {@code message} into a {@code byte[]}.
@@ -101,6 +115,13 @@ public class StompEncoder {
 			throw new IllegalStateException("Missing STOMP command: " + headers);
 		}
 
+		if (command == StompCommand.MESSAGE && payload.length > 0) {
+			byte[] frame = encodeMessageFrameWithSharedHeaders(headers, payload);
+			if (frame != null) {
+				return frame;
+			}
+		}
+
 		Result result = new DefaultResult();
 		result.add(command.toString().getBytes(StandardCharsets.UTF_8));
 		result.add(LINE_FEED_BYTE);
@@ -111,6 +132,97 @@ public class StompEncoder {
 		return result.toByteArray();
 	}
 
+	/**
+	 * Encode a MESSAGE frame whose payload is shared with previously encoded
+	 * frames, as is the case when a message is broadcast to many subscribers,
+	 * reusing the encoded headers of the previous frame as long as they are
+	 * the same. Only the "subscription" and "message-id" headers that are
+	 * specific to each frame are then encoded.
+	 * <p>The payload is only considered shared once a second frame for it is
+	 * encoded, so other frames are encoded without caching.
+	 * @return the encoded frame, or {@code null} if the payload is not shared
+	 */
+	private byte @Nullable [] encodeMessageFrameWithSharedHeaders(Map<String, Object> headers, byte[] payload) {
+		SharedHeaders sharedHeaders = this.sharedHeadersCache.get(payload);
+		if (sharedHeaders == null) {
+			int payloadId = System.identityHashCode(payload);
+			if (this.lastMessagePayloadId != payloadId) {
+				this.lastMessagePayloadId = payloadId;
+				return null;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<String, List<String>> nativeHeaders =
+				(Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+
+		if (logger.isTraceEnabled()) {
+			logger.trace("Encoding STOMP " + StompCommand.MESSAGE + ", headers=" + nativeHeaders);
+		}
+
+		if (nativeHeaders == null) {
+			nativeHeaders = Collections.emptyMap();
+		}
+
+		if (sharedHeaders == null || !sharedHeaders.matches(nativeHeaders)) {
+			sharedHeaders = encodeSharedHeaders(nativeHeaders, payload);
+			this.sharedHeadersCache.put(payload, sharedHeaders);
+		}
+
+		Result result = new DefaultResult();
+		result.add(MESSAGE_COMMAND_BYTES);
+		result.add(LINE_FEED_BYTE);
+		int index = 0;
+		for (Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+			if ("content-length".equals(entry.getKey())) {
+				continue;
+			}
+			byte[] encodedHeader = sharedHeaders.headers.get(index++).encodedHeader();
+			if (encodedHeader != null) {
+				result.add(encodedHeader);
+			}
+			else {
+				writeHeader(entry.getKey(), entry.getValue(), true, result);
+			}
+		}
+		result.add(sharedHeaders.contentLengthHeader);
+		result.add(LINE_FEED_BYTE);
+		result.add(payload);
+		result.add((byte) 0);
+		return result.toByteArray();
+	}
+
+	private SharedHeaders encodeSharedHeaders(Map<String, List<String>> nativeHeaders, byte[] payload) {
+		List<SharedHeader> sharedHeaders = new ArrayList<>(nativeHeaders.size());
+		for (Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+			String name = entry.getKey();
+			if ("content-length".equals(name)) {
+				continue;
+			}
+			if (FRAME_SPECIFIC_MESSAGE_HEADERS.contains(name)) {
+				sharedHeaders.add(new SharedHeader(name, null, null));
+			}
+			else {
+				List<String> values = List.copyOf(entry.getValue());
+				Result result = new DefaultResult();
+				writeHeader(name, values, true, result);
+				sharedHeaders.add(new SharedHeader(name, values, result.toByteArray()));
+			}
+		}
+		byte[] contentLengthHeader = ("content-length:" + payload.length + "\n").getBytes(StandardCharsets.UTF_8);
+		return new SharedHeaders(sharedHeaders, contentLengthHeader);
+	}
+
+	private void writeHeader(String name, List<String> values, boolean escape, Result result) {
+		byte[] encodedKey = encodeHeaderKey(name, escape);
+		for (String value : values) {
+			result.add(encodedKey);
+			result.add(COLON_BYTE);
+			result.add(encodeHeaderValue(value, escape));
+			result.add(LINE_FEED_BYTE);
+		}
+	}
+
 	private void writeHeaders(
 			StompCommand command, Map<String, Object> headers, byte[] payload, Result result) {
 
@@ -140,13 +252,7 @@ public class StompEncoder {
 				values = Collections.singletonList(StompHeaderAccessor.getPasscode(headers));
 			}
 
-			byte[] encodedKey = encodeHeaderKey(entry.getKey(), shouldEscape);
-			for (String value : values) {
-				result.add(encodedKey);
-				result.add(COLON_BYTE);
-				result.add(encodeHeaderValue(value, shouldEscape));
-				result.add(LINE_FEED_BYTE);
-			}
+			writeHeader(entry.getKey(), values, shouldEscape, result);
 		}
 
 		if (command.requiresContentLength()) {
@@ -218,6 +324,54 @@ public class StompEncoder {
 	}
 
 
+	/**
+	 * Encoded headers of a MESSAGE frame, in the order of the headers they were
+	 * encoded from, with the frame-specific headers left to be encoded.
+	 */
+	private static final class SharedHeaders {
+
+		private final List<SharedHeader> headers;
+
+		private final byte[] contentLengthHeader;
+
+		SharedHeaders(List<SharedHeader> headers, byte[] contentLengthHeader) {
+			this.headers = headers;
+			this.contentLengthHeader = contentLengthHeader;
+		}
+
+		/**
+		 * Whether the given headers have the same names in the same order, and
+		 * the same values other than for the frame-specific headers, as the
+		 * ones these shared headers were encoded from.
+		 */
+		boolean matches(Map<String, List<String>> nativeHeaders) {
+			int index = 0;
+			for (Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+				String name = entry.getKey();
+				if ("content-length".equals(name)) {
+					continue;
+				}
+				if (index == this.headers.size()) {
+					return false;
+				}
+				SharedHeader sharedHeader = this.headers.get(index++);
+				List<String> values = sharedHeader.values();
+				if (!sharedHeader.name().equals(name) || (values != null && !values.equals(entry.getValue()))) {
+					return false;
+				}
+			}
+			return (index == this.headers.size());
+		}
+	}
+
+
+	/**
+	 * Encoded header, or a frame-specific header without values to encode.
+	 */
+	private record SharedHeader(String name, @Nullable List<String> values, byte @Nullable [] encodedHeader) {
+	}
+
+
 	/**
 	 * Accumulates byte content and returns an aggregated byte[] at the end.
 	 */
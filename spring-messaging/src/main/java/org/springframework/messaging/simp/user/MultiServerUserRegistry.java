@@ -46,6 +46,13 @@ import org.springframework.util.ObjectUtils;
  * handled by {@link UserRegistryMessageHandler} which in turn notifies this
  * registry when updates are received.
  *
+ * <p>Broadcasts contain either a full snapshot of the local registry, or, if
+ * {@link UserRegistryMessageHandler#setBroadcastDeltas delta broadcasts} are
+ * enabled, only the sessions that were added, changed, or removed since the
+ * previous broadcast, along with a version and a digest of the full registry.
+ * A server that misses a delta or whose copy no longer matches the digest
+ * requests a full snapshot through its own next broadcast.
+ *
  * @author Rossen Stoyanchev
  * @since 4.2
  */
@@ -63,6 +70,17 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 	/* Cross-server session lookup (for example, same user connected to multiple servers) */
 	private final SessionLookup sessionLookup = new SessionLookup();
 
+	/* Local sessions as of the last broadcast, to compute deltas from */
+	private final Map<String, BroadcastSession> broadcastSessions = new HashMap<>();
+
+	private long broadcastVersion;
+
+	/* Whether another server requested a full snapshot of the local registry */
+	private volatile boolean fullSnapshotRequested;
+
+	/* Remote registries to request a full snapshot from with the next broadcast */
+	private final Set<String> resyncRequests = ConcurrentHashMap.newKeySet();
+
 
 	/**
 	 * Create an instance wrapping the local user registry.
@@ -167,11 +185,63 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 		return new UserRegistrySnapshot(this.id, this.localRegistry);
 	}
 
+	/**
+	 * Return the changes to the local registry since the previous call, or a
+	 * full, versioned snapshot if requested or if required by another server.
+	 */
+	synchronized Object getLocalRegistryDelta(boolean fullSnapshot) {
+		boolean delta = (!fullSnapshot && !this.fullSnapshotRequested && this.broadcastVersion > 0);
+		this.fullSnapshotRequested = false;
+		Map<String, BroadcastSession> previousSessions = new HashMap<>(this.broadcastSessions);
+		Map<String, TransferSimpUser> users = new HashMap<>();
+		long digest = 0;
+		this.broadcastSessions.clear();
+		for (SimpUser user : this.localRegistry.getUsers()) {
+			for (SimpSession session : user.getSessions()) {
+				int hash = sessionHash(user.getName(), session);
+				BroadcastSession previous = previousSessions.remove(session.getId());
+				if (!delta || previous == null || previous.hash() != hash) {
+					users.computeIfAbsent(user.getName(), TransferSimpUser::new).addSession(session);
+				}
+				this.broadcastSessions.put(session.getId(), new BroadcastSession(user.getName(), hash));
+				digest += hash;
+			}
+		}
+		UserRegistrySnapshot snapshot = new UserRegistrySnapshot(this.id, users);
+		snapshot.setVersion(++this.broadcastVersion);
+		snapshot.setDelta(delta);
+		snapshot.setDigest(digest);
+		if (delta) {
+			Map<String, String> removedSessions = CollectionUtils.newHashMap(previousSessions.size());
+			previousSessions.forEach((sessionId, session) -> removedSessions.put(sessionId, session.userName()));
+			snapshot.setRemovedSessions(removedSessions);
+		}
+		if (!this.resyncRequests.isEmpty()) {
+			Set<String> resyncRequests = new HashSet<>(this.resyncRequests);
+			this.resyncRequests.removeAll(resyncRequests);
+			snapshot.setResyncRequests(resyncRequests);
+		}
+		return snapshot;
+	}
+
 	void addRemoteRegistryDto(Message<?> message, MessageConverter converter, long expirationPeriod) {
 		UserRegistrySnapshot registry = (UserRegistrySnapshot) converter.fromMessage(message, UserRegistrySnapshot.class);
-		if (registry != null && !registry.getId().equals(this.id)) {
+		if (registry == null || registry.getId().equals(this.id)) {
+			return;
+		}
+		if (registry.getResyncRequests().contains(this.id)) {
+			this.fullSnapshotRequested = true;
+		}
+		if (!registry.isDelta()) {
 			registry.init(expirationPeriod, this.sessionLookup);
 			this.remoteRegistries.put(registry.getId(), registry);
+			this.resyncRequests.remove(registry.getId());
+			return;
+		}
+		UserRegistrySnapshot current = this.remoteRegistries.get(registry.getId());
+		if (current == null || !current.applyDelta(registry, expirationPeriod, this.sessionLookup)) {
+			// Missed a broadcast or out of sync: request a full snapshot
+			this.resyncRequests.add(registry.getId());
 		}
 	}
 
@@ -187,6 +257,27 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 	}
 
 
+	/**
+	 * Hash of the given session and its subscriptions, independent of the
+	 * order of subscriptions, and summed up across sessions into a digest
+	 * of a registry that senders and receivers can compare.
+	 */
+	private static int sessionHash(String userName, SimpSession session) {
+		int subscriptionsHash = 0;
+		for (SimpSubscription subscription : session.getSubscriptions()) {
+			subscriptionsHash += 31 * subscription.getId().hashCode() + subscription.getDestination().hashCode();
+		}
+		return 31 * (31 * userName.hashCode() + session.getId().hashCode()) + subscriptionsHash;
+	}
+
+
+	/**
+	 * A local session as of the last broadcast.
+	 */
+	private record BroadcastSession(String userName, int hash) {
+	}
+
+
 	/**
 	 * Holds a copy of a SimpUserRegistry for the purpose of broadcasting to and
 	 * receiving broadcasts from other application servers.
@@ -197,8 +288,21 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 
 		private Map<String, TransferSimpUser> users = Collections.emptyMap();
 
+		private long version;
+
+		private boolean delta;
+
+		private Map<String, String> removedSessions = Collections.emptyMap();
+
+		private long digest;
+
+		private Set<String> resyncRequests = Collections.emptySet();
+
 		private long expirationTime;
 
+		// Session hashes to maintain the digest while applying deltas
+		private @Nullable Map<String, Integer> sessionHashes;
+
 		/**
 		 * Default constructor for JSON deserialization.
 		 */
@@ -218,6 +322,14 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 			}
 		}
 
+		/**
+		 * Constructor to create DTO from the given users.
+		 */
+		UserRegistrySnapshot(String id, Map<String, TransferSimpUser> users) {
+			this.id = id;
+			this.users = users;
+		}
+
 		@SuppressWarnings("unused")
 		public void setId(String id) {
 			this.id = id;
@@ -236,6 +348,46 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 			return this.users;
 		}
 
+		public void setVersion(long version) {
+			this.version = version;
+		}
+
+		public long getVersion() {
+			return this.version;
+		}
+
+		public void setDelta(boolean delta) {
+			this.delta = delta;
+		}
+
+		public boolean isDelta() {
+			return this.delta;
+		}
+
+		public void setRemovedSessions(Map<String, String> removedSessions) {
+			this.removedSessions = removedSessions;
+		}
+
+		public Map<String, String> getRemovedSessions() {
+			return this.removedSessions;
+		}
+
+		public void setDigest(long digest) {
+			this.digest = digest;
+		}
+
+		public long getDigest() {
+			return this.digest;
+		}
+
+		public void setResyncRequests(Set<String> resyncRequests) {
+			this.resyncRequests = resyncRequests;
+		}
+
+		public Set<String> getResyncRequests() {
+			return this.resyncRequests;
+		}
+
 		public boolean isExpired(long now) {
 			return (now > this.expirationTime);
 		}
@@ -245,6 +397,73 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 			for (TransferSimpUser user : this.users.values()) {
 				user.afterDeserialization(sessionLookup);
 			}
+			if (this.version > 0) {
+				// Versioned snapshot: prepare for deltas
+				this.users = new ConcurrentHashMap<>(this.users);
+				this.sessionHashes = new HashMap<>();
+				for (TransferSimpUser user : this.users.values()) {
+					for (TransferSimpSession session : user.sessions) {
+						this.sessionHashes.put(session.getId(), sessionHash(user.getName(), session));
+					}
+				}
+			}
+		}
+
+		/**
+		 * Apply the given delta to this snapshot, replacing the affected users
+		 * rather than modifying them, since they may be accessed concurrently.
+		 * @return {@code true} if the delta was applied and the resulting state
+		 * matches the digest of the sender, {@code false} otherwise
+		 */
+		public synchronized boolean applyDelta(
+				UserRegistrySnapshot delta, long expirationPeriod, SessionLookup sessionLookup) {
+
+			Map<String, Integer> sessionHashes = this.sessionHashes;
+			if (sessionHashes == null || delta.getVersion() != this.version + 1) {
+				return false;
+			}
+			Map<String, Set<String>> removedSessionIds = new HashMap<>();
+			delta.getRemovedSessions().forEach((sessionId, userName) ->
+					removedSessionIds.computeIfAbsent(userName, name -> new HashSet<>()).add(sessionId));
+			Set<String> userNames = new HashSet<>(delta.getUserMap().keySet());
+			userNames.addAll(removedSessionIds.keySet());
+			for (String userName : userNames) {
+				Map<String, TransferSimpSession> sessions = new HashMap<>();
+				TransferSimpUser user = this.users.get(userName);
+				if (user != null) {
+					for (TransferSimpSession session : user.sessions) {
+						sessions.put(session.getId(), session);
+					}
+				}
+				for (String sessionId : removedSessionIds.getOrDefault(userName, Collections.emptySet())) {
+					sessions.remove(sessionId);
+					Integer hash = sessionHashes.remove(sessionId);
+					if (hash != null) {
+						this.digest -= hash;
+					}
+				}
+				TransferSimpUser changedUser = delta.getUserMap().get(userName);
+				if (changedUser != null) {
+					for (TransferSimpSession session : changedUser.sessions) {
+						sessions.put(session.getId(), session);
+						int hash = sessionHash(userName, session);
+						Integer previousHash = sessionHashes.put(session.getId(), hash);
+						this.digest += hash - (previousHash != null ? previousHash : 0);
+					}
+				}
+				if (sessions.isEmpty()) {
+					this.users.remove(userName);
+				}
+				else {
+					TransferSimpUser newUser = new TransferSimpUser(userName);
+					newUser.setSessions(new HashSet<>(sessions.values()));
+					newUser.afterDeserialization(sessionLookup);
+					this.users.put(userName, newUser);
+				}
+			}
+			this.version = delta.getVersion();
+			this.expirationTime = System.currentTimeMillis() + expirationPeriod;
+			return (this.digest == delta.getDigest());
 		}
 
 		public Set<SimpSubscription> findSubscriptions(SimpSubscriptionMatcher matcher) {
@@ -263,7 +482,7 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 
 		@Override
 		public String toString() {
-			return "id=" + this.id + ", users=" + this.users;
+			return "id=" + this.id + ", version=" + this.version + ", users=" + this.users;
 		}
 	}
 
@@ -289,6 +508,14 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 			this.sessions = new HashSet<>(1);
 		}
 
+		/**
+		 * Constructor to create a user without sessions.
+		 */
+		TransferSimpUser(String name) {
+			this.name = name;
+			this.sessions = new HashSet<>(1);
+		}
+
 		/**
 		 * Constructor to create user from a local user.
 		 */
@@ -359,6 +586,10 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 			}
 		}
 
+		private void addSession(SimpSession session) {
+			this.sessions.add(new TransferSimpSession(session));
+		}
+
 		private void addSessions(Map<String, SimpSession> map) {
 			for (SimpSession session : this.sessions) {
 				map.put(session.getId(), session);
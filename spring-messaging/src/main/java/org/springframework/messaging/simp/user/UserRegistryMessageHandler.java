@@ -60,6 +60,10 @@ public class UserRegistryMessageHandler implements MessageHandler, ApplicationLi
 
 	private long registryExpirationPeriod = TimeUnit.SECONDS.toMillis(20);
 
+	private boolean broadcastDeltas;
+
+	private int fullSnapshotInterval = 10;
+
 
 	/**
 	 * Constructor.
@@ -108,6 +112,53 @@ public class UserRegistryMessageHandler implements MessageHandler, ApplicationLi
 		return this.registryExpirationPeriod;
 	}
 
+	/**
+	 * Whether to broadcast only the sessions and subscriptions that changed
+	 * since the previous broadcast, rather than the full content of the local
+	 * user registry every time.
+	 * <p>Deltas are versioned, and carry a digest of the full registry, which
+	 * allows other servers to detect missed or diverging updates, and to
+	 * request a full snapshot in return. A full snapshot is also broadcast
+	 * periodically, see {@link #setFullSnapshotInterval(int)}.
+	 * <p>By default this is set to {@code false}. All servers must support
+	 * deltas before this is turned on, since servers that don't would treat
+	 * a delta as a full snapshot.
+	 * @param broadcastDeltas whether to broadcast deltas
+	 * @since 7.1
+	 */
+	public void setBroadcastDeltas(boolean broadcastDeltas) {
+		this.broadcastDeltas = broadcastDeltas;
+	}
+
+	/**
+	 * Return whether deltas are broadcast.
+	 * @since 7.1
+	 */
+	public boolean isBroadcastDeltas() {
+		return this.broadcastDeltas;
+	}
+
+	/**
+	 * Configure how often to broadcast a full snapshot of the local registry,
+	 * as a number of broadcasts, when {@link #setBroadcastDeltas delta
+	 * broadcasts} are enabled.
+	 * <p>By default this is set to 10, i.e. every 10th broadcast is a full snapshot.
+	 * @param fullSnapshotInterval the number of broadcasts per full snapshot
+	 * @since 7.1
+	 */
+	public void setFullSnapshotInterval(int fullSnapshotInterval) {
+		Assert.isTrue(fullSnapshotInterval > 0, "'fullSnapshotInterval' must be greater than 0");
+		this.fullSnapshotInterval = fullSnapshotInterval;
+	}
+
+	/**
+	 * Return the configured full snapshot interval.
+	 * @since 7.1
+	 */
+	public int getFullSnapshotInterval() {
+		return this.fullSnapshotInterval;
+	}
+
 
 	@Override
 	public void onApplicationEvent(BrokerAvailabilityEvent event) {
@@ -133,13 +184,23 @@ public class UserRegistryMessageHandler implements MessageHandler, ApplicationLi
 
 	private class UserRegistryTask implements Runnable {
 
+		private int broadcastCount;
+
 		@Override
 		public void run() {
 			try {
 				SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
 				accessor.setHeader(SimpMessageHeaderAccessor.IGNORE_ERROR, true);
 				accessor.setLeaveMutable(true);
-				Object payload = userRegistry.getLocalRegistryDto();
+				Object payload;
+				if (isBroadcastDeltas()) {
+					boolean fullSnapshot = (this.broadcastCount == 0);
+					this.broadcastCount = (this.broadcastCount + 1) % getFullSnapshotInterval();
+					payload = userRegistry.getLocalRegistryDelta(fullSnapshot);
+				}
+				else {
+					payload = userRegistry.getLocalRegistryDto();
+				}
 				brokerTemplate.convertAndSend(getBroadcastDestination(), payload, accessor.getMessageHeaders());
 			}
 			finally {
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.support;
+
+import java.util.List;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
+
+/**
+ * Extension of {@link MessageHandler} for handlers that can process several
+ * messages at once, for example, to amortize the cost of a lookup or of a
+ * write across the messages of a batch.
+ *
+ * <p>Invoked by an {@link ExecutorSubscribableChannel} that is configured
+ * with a {@link ExecutorSubscribableChannel#setBatchSize batch size} greater
+ * than 1, while {@link #handleMessage(Message)} continues to be used for
+ * individual messages otherwise.
+ *
+ * @since 7.1
+ * @see ExecutorSubscribableChannel#setBatchSize(int)
+ */
+public interface BatchMessageHandler extends MessageHandler {
+
+	/**
+	 * Handle the given batch of messages.
+	 * <p>The default implementation handles each message individually.
+	 * @param messages the messages to be handled
+	 * @throws MessagingException if the handler failed to process the messages
+	 */
+	default void handleMessages(List<Message<?>> messages) throws MessagingException {
+		for (Message<?> message : messages) {
+			handleMessage(message);
+		}
+	}
+
+}
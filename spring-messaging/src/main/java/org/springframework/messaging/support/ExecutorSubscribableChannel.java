@@ -18,8 +18,15 @@ package org.springframework.messaging.support;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jspecify.annotations.Nullable;
 
@@ -28,20 +35,45 @@ import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.SubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * A {@link SubscribableChannel} that sends messages to each of its subscribers.
  *
+ * <p>By default, each message is handed to the {@link Executor}, if any, as a
+ * separate task per subscriber. Alternatively, a {@link #setBatchSize batch size}
+ * can be configured to queue messages per subscriber instead, and to have
+ * executor threads drain those queues in batches.
+ *
  * @author Phillip Webb
  * @author Rossen Stoyanchev
  * @since 4.0
  */
 public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 
+	/**
+	 * The maximum number of batches a worker handles before it hands the
+	 * queue of a subscriber over to a new executor task.
+	 */
+	static final int MAX_BATCHES_PER_WORKER_RUN = 16;
+
+	private static final boolean THREAD_POOL_TASK_EXECUTOR_PRESENT = ClassUtils.isPresent(
+			"org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor",
+			ExecutorSubscribableChannel.class.getClassLoader());
+
+
 	private final @Nullable Executor executor;
 
 	private final List<ExecutorChannelInterceptor> executorInterceptors = new ArrayList<>(4);
 
+	private int batchSize = 1;
+
+	private int maxWorkersPerHandler = -1;
+
+	private final Map<MessageHandler, HandlerQueue> handlerQueues = new ConcurrentHashMap<>();
+
 
 	/**
 	 * Create a new {@link ExecutorSubscribableChannel} instance
@@ -66,6 +98,84 @@ public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 		return this.executor;
 	}
 
+	/**
+	 * Configure the maximum number of messages to handle per subscriber in one
+	 * executor task.
+	 * <p>When set to a value greater than 1, messages are queued per subscriber,
+	 * and executor threads drain those queues, passing up to the given number
+	 * of messages at a time to a {@link BatchMessageHandler}, or each of them
+	 * to a regular {@link MessageHandler}. This reduces the number of executor
+	 * tasks at high message rates, while the number of threads that drain the
+	 * queue of a single subscriber is bounded so that a slow subscriber does
+	 * not hold up the others. A worker also hands the queue over to a new
+	 * executor task after a fixed number of batches, so that a subscriber
+	 * under sustained load does not keep executor threads to itself.
+	 * <p>By default, this is set to 1, in which case every message is handed
+	 * to the executor as a separate task per subscriber. Batches only apply if
+	 * an executor is configured.
+	 * @param batchSize the maximum number of messages per batch
+	 * @since 7.1
+	 * @see #setMaxWorkersPerHandler(int)
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Return the configured batch size.
+	 * @since 7.1
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Configure the maximum number of executor threads that drain the queue
+	 * of a single subscriber concurrently, when a {@link #setBatchSize batch size}
+	 * greater than 1 is configured.
+	 * <p>By default, the pool size of the executor is divided among the
+	 * current subscribers, with at least one thread per subscriber, so that
+	 * together they do not occupy more threads than the pool provides. The
+	 * pool size is the core pool size of a {@link ThreadPoolExecutor} or
+	 * {@link ThreadPoolTaskExecutor}, the parallelism of a {@link ForkJoinPool},
+	 * or the number of available processors for any other executor.
+	 * @param maxWorkersPerHandler the maximum number of threads per subscriber
+	 * @since 7.1
+	 */
+	public void setMaxWorkersPerHandler(int maxWorkersPerHandler) {
+		Assert.isTrue(maxWorkersPerHandler > 0, "Max workers per handler must be greater than 0");
+		this.maxWorkersPerHandler = maxWorkersPerHandler;
+	}
+
+	/**
+	 * Return the maximum number of threads per subscriber, either as configured
+	 * or as derived from the pool size of the executor and the current number
+	 * of subscribers.
+	 * @since 7.1
+	 */
+	public int getMaxWorkersPerHandler() {
+		if (this.maxWorkersPerHandler > 0) {
+			return this.maxWorkersPerHandler;
+		}
+		int poolSize = (this.executor != null ? determinePoolSize(this.executor) :
+				Runtime.getRuntime().availableProcessors());
+		return Math.max(1, poolSize / Math.max(1, getSubscribers().size()));
+	}
+
+	private static int determinePoolSize(Executor executor) {
+		if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+			return threadPoolExecutor.getCorePoolSize();
+		}
+		if (executor instanceof ForkJoinPool forkJoinPool) {
+			return forkJoinPool.getParallelism();
+		}
+		if (THREAD_POOL_TASK_EXECUTOR_PRESENT && executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+			return taskExecutor.getCorePoolSize();
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
 	@Override
 	public void setInterceptors(List<ChannelInterceptor> interceptors) {
 		super.setInterceptors(interceptors);
@@ -92,8 +202,28 @@ public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 	}
 
 
+	/**
+	 * {@inheritDoc}
+	 * <p>When a {@link #setBatchSize batch size} greater than 1 is configured,
+	 * messages already queued for the given handler are still passed to it,
+	 * just like send tasks already handed to the executor otherwise.
+	 */
+	@Override
+	public boolean unsubscribe(MessageHandler handler) {
+		boolean result = super.unsubscribe(handler);
+		this.handlerQueues.remove(handler);
+		return result;
+	}
+
+
 	@Override
 	public boolean sendInternal(Message<?> message, long timeout) {
+		if (this.executor != null && this.batchSize > 1) {
+			for (MessageHandler handler : getSubscribers()) {
+				this.handlerQueues.computeIfAbsent(handler, HandlerQueue::new).add(message, this.executor);
+			}
+			return true;
+		}
 		for (MessageHandler handler : getSubscribers()) {
 			SendTask sendTask = new SendTask(message, handler);
 			if (this.executor != null) {
@@ -197,4 +327,153 @@ public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 		}
 	}
 
+
+	/**
+	 * Queue of messages for a subscriber, drained in batches by a bounded
+	 * number of executor threads.
+	 */
+	private class HandlerQueue {
+
+		private final MessageHandler messageHandler;
+
+		private final Queue<Message<?>> messages = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger workerCount = new AtomicInteger();
+
+		public HandlerQueue(MessageHandler messageHandler) {
+			this.messageHandler = messageHandler;
+		}
+
+		public void add(Message<?> message, Executor executor) {
+			this.messages.add(message);
+			if (tryAddWorker()) {
+				execute(executor);
+			}
+		}
+
+		private void execute(Executor executor) {
+			try {
+				executor.execute(() -> drain(executor));
+			}
+			catch (RejectedExecutionException ex) {
+				// Probably on shutdown -> drain messages locally instead
+				drain(executor);
+			}
+		}
+
+		private boolean tryAddWorker() {
+			int maxWorkers = getMaxWorkersPerHandler();
+			while (true) {
+				int count = this.workerCount.get();
+				if (count >= maxWorkers) {
+					return false;
+				}
+				if (this.workerCount.compareAndSet(count, count + 1)) {
+					return true;
+				}
+			}
+		}
+
+		private void drain(Executor executor) {
+			boolean released = false;
+			try {
+				List<Message<?>> batch = new ArrayList<>(Math.min(batchSize, 64));
+				int batchCount = 0;
+				while (true) {
+					Message<?> message;
+					while (batch.size() < batchSize && (message = this.messages.poll()) != null) {
+						batch.add(message);
+					}
+					if (batch.isEmpty()) {
+						this.workerCount.decrementAndGet();
+						released = true;
+						// Re-check for messages added after the last poll
+						if (this.messages.isEmpty() || !tryAddWorker()) {
+							if (!hasSubscription(this.messageHandler)) {
+								// Queue re-created by a send concurrent with unsubscribe
+								handlerQueues.remove(this.messageHandler, this);
+							}
+							return;
+						}
+						released = false;
+						continue;
+					}
+					if (this.messageHandler instanceof BatchMessageHandler batchHandler) {
+						handleBatch(batch, batchHandler);
+					}
+					else {
+						for (Message<?> messageToHandle : batch) {
+							try {
+								new SendTask(messageToHandle, this.messageHandler).run();
+							}
+							catch (MessagingException ex) {
+								logger.error("Failed to handle message", ex);
+							}
+						}
+					}
+					batch.clear();
+					if (++batchCount >= MAX_BATCHES_PER_WORKER_RUN && !this.messages.isEmpty()) {
+						// Yield the thread and hand the worker slot over to a new task,
+						// queued behind the tasks of other subscribers
+						try {
+							executor.execute(() -> drain(executor));
+							released = true;
+							return;
+						}
+						catch (RejectedExecutionException ex) {
+							// Probably on shutdown -> keep draining in this thread
+							batchCount = 0;
+						}
+					}
+				}
+			}
+			finally {
+				if (!released) {
+					// Unexpected failure -> release the worker slot, and hand
+					// remaining messages to a new worker
+					this.workerCount.decrementAndGet();
+					if (!this.messages.isEmpty() && tryAddWorker()) {
+						execute(executor);
+					}
+				}
+			}
+		}
+
+		private void handleBatch(List<Message<?>> batch, BatchMessageHandler batchHandler) {
+			List<SendTask> sendTasks = new ArrayList<>(batch.size());
+			List<Message<?>> messagesToHandle = new ArrayList<>(batch.size());
+			for (Message<?> message : batch) {
+				SendTask sendTask = new SendTask(message, batchHandler);
+				Message<?> messageToHandle;
+				try {
+					messageToHandle = sendTask.applyBeforeHandle(message);
+				}
+				catch (Exception ex) {
+					sendTask.triggerAfterMessageHandled(message, ex);
+					logger.error("Failed to handle " + message + " in " + batchHandler, ex);
+					continue;
+				}
+				if (messageToHandle != null) {
+					sendTasks.add(sendTask);
+					messagesToHandle.add(messageToHandle);
+				}
+			}
+			if (messagesToHandle.isEmpty()) {
+				return;
+			}
+			Exception failure = null;
+			try {
+				batchHandler.handleMessages(messagesToHandle);
+			}
+			catch (Throwable ex) {
+				String description = "Failed to handle batch of " + messagesToHandle.size() + " messages in " + batchHandler;
+				failure = (ex instanceof Exception exception ? exception : new MessagingException(description, ex));
+				logger.error(description, ex);
+			}
+			for (int i = 0; i < sendTasks.size(); i++) {
+				sendTasks.get(i).triggerAfterMessageHandled(messagesToHandle.get(i), failure);
+			}
+		}
+	}
+
 }
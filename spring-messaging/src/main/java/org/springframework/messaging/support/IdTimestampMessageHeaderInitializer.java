@@ -37,6 +37,8 @@ public class IdTimestampMessageHeaderInitializer implements MessageHeaderInitial
 
 	private boolean enableTimestamp;
 
+	private boolean deferIdGeneration;
+
 
 	/**
 	 * Configure the IdGenerator strategy to initialize {@code MessageHeaderAccessor}
@@ -81,6 +83,31 @@ public class IdTimestampMessageHeaderInitializer implements MessageHeaderInitial
 		return this.enableTimestamp;
 	}
 
+	/**
+	 * Whether to defer the generation of the
+	 * {@link org.springframework.messaging.MessageHeaders#ID} header until it
+	 * is first accessed, rather than generating it when the headers of a
+	 * message are created.
+	 * <p>This saves the cost of generating IDs for messages that are passed
+	 * through one or more channels, and copied into new headers along the way,
+	 * without ever having their ID read. Note that any access to the headers
+	 * as a whole, for example, for logging or serialization, triggers the
+	 * generation of the ID as well.
+	 * <p>By default this property is set to false.
+	 * @since 7.1
+	 */
+	public void setDeferIdGeneration(boolean deferIdGeneration) {
+		this.deferIdGeneration = deferIdGeneration;
+	}
+
+	/**
+	 * Return whether the generation of the ID header is deferred.
+	 * @since 7.1
+	 */
+	public boolean isDeferIdGeneration() {
+		return this.deferIdGeneration;
+	}
+
 
 	@Override
 	public void initHeaders(MessageHeaderAccessor headerAccessor) {
@@ -89,6 +116,7 @@ public class IdTimestampMessageHeaderInitializer implements MessageHeaderInitial
 			headerAccessor.setIdGenerator(idGenerator);
 		}
 		headerAccessor.setEnableTimestamp(isEnableTimestamp());
+		headerAccessor.setDeferIdGeneration(isDeferIdGeneration());
 	}
 
 }
@@ -123,6 +123,8 @@ public class MessageHeaderAccessor {
 
 	private @Nullable IdGenerator idGenerator;
 
+	private boolean deferIdGeneration = false;
+
 
 	/**
 	 * A constructor to create new headers.
@@ -233,6 +235,18 @@ public class MessageHeaderAccessor {
 		this.idGenerator = idGenerator;
 	}
 
+	/**
+	 * A package-private mechanism to defer the generation of the
+	 * {@link org.springframework.messaging.MessageHeaders#ID} header until it
+	 * is first accessed on the immutable headers.
+	 * <p>By default, this property is set to {@code false}.
+	 * @since 7.1
+	 * @see IdTimestampMessageHeaderInitializer
+	 */
+	void setDeferIdGeneration(boolean deferIdGeneration) {
+		this.deferIdGeneration = deferIdGeneration;
+	}
+
 
 	// Accessors for the resulting MessageHeaders
 
@@ -665,9 +679,14 @@ public class MessageHeaderAccessor {
 			if (getId() == null) {
 				IdGenerator idGenerator = (MessageHeaderAccessor.this.idGenerator != null ?
 						MessageHeaderAccessor.this.idGenerator : MessageHeaders.getIdGenerator());
-				UUID id = idGenerator.generateId();
-				if (id != MessageHeaders.ID_VALUE_NONE) {
-					getRawHeaders().put(ID, id);
+				if (MessageHeaderAccessor.this.deferIdGeneration) {
+					deferIdGeneration(idGenerator);
+				}
+				else {
+					UUID id = idGenerator.generateId();
+					if (id != MessageHeaders.ID_VALUE_NONE) {
+						getRawHeaders().put(ID, id);
+					}
 				}
 			}
 
@@ -27,6 +27,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.MultiValueMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -240,6 +241,51 @@ class DefaultSubscriptionRegistryTests {
 		this.registry.unregisterAllSubscriptions(sess2);
 	}
 
+	@Test
+	void registerSubscriptionsWithPatternDestinationsAtDifferentLevels() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/**"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", "/topic/*"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/topic/price.*"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs02", "/topic/price.stock.*"));
+		this.registry.registerSubscription(subscribeMessage("sess03", "subs01", "/queue/**"));
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("/topic/price.stock.IBM"));
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02");
+		assertThat(actual.get("sess02")).containsExactlyInAnyOrder("subs01", "subs02");
+
+		actual = this.registry.findSubscriptions(createMessage("/topic/price.IBM"));
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02");
+		assertThat(actual.get("sess02")).containsExactly("subs01");
+
+		this.registry.unregisterSubscription(unsubscribeMessage("sess01", "subs02"));
+		this.registry.unregisterSubscription(unsubscribeMessage("sess02", "subs01"));
+
+		actual = this.registry.findSubscriptions(createMessage("/topic/price.IBM"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess01")).containsExactly("subs01");
+
+		actual = this.registry.findSubscriptions(createMessage("/queue/price.IBM"));
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactly("subs01");
+		assertThat(actual.get("sess03")).containsExactly("subs01");
+	}
+
+	@Test
+	void registerSubscriptionsWithPatternDestinationsAndCustomPathMatcher() {
+		AntPathMatcher pathMatcher = new AntPathMatcher(".");
+		pathMatcher.setCaseSensitive(false);
+
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "topic.price.*"));
+		this.registry.setPathMatcher(pathMatcher);
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", "TOPIC.PRICE.*"));
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("Topic.Price.IBM"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02");
+	}
+
 	@Test
 	void registerSubscriptionWithDestinationPatternRegex() {
 		String sessId = "sess01";
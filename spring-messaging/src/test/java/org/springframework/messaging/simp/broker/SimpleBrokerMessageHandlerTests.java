@@ -18,6 +18,7 @@ package org.springframework.messaging.simp.broker;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
@@ -113,6 +114,65 @@ class SimpleBrokerMessageHandlerTests {
 		assertThat(messageCaptured("sess2", "sub3", "/bar")).isTrue();
 	}
 
+	@Test
+	void subscribePublishWithDispatchExecutor() {
+		startSession("sess1");
+		startSession("sess2");
+
+		List<Runnable> tasks = new ArrayList<>();
+		this.messageHandler.setDispatchExecutor(tasks::add);
+		this.messageHandler.setDispatchLaneCount(1);
+
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess1", "sub1", "/foo"));
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess2", "sub1", "/foo"));
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess2", "sub2", "/foo"));
+
+		this.messageHandler.handleMessage(createMessage("/foo", "message1"));
+		this.messageHandler.handleMessage(createMessage("/foo", "message2"));
+
+		// Single task for both messages and all subscribers in the same lane
+		verifyNoMoreInteractions(this.clientOutChannel);
+		assertThat(tasks).hasSize(1);
+		tasks.remove(0).run();
+
+		verify(this.clientOutChannel, times(6)).send(this.messageCaptor.capture());
+		assertThat(messageCaptured("sess1", "sub1", "/foo")).isTrue();
+		assertThat(messageCaptured("sess2", "sub1", "/foo")).isTrue();
+		assertThat(messageCaptured("sess2", "sub2", "/foo")).isTrue();
+		assertThat(this.messageCaptor.getAllValues().stream()
+				.filter(message -> "sess1".equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())))
+				.map(Message::getPayload)).containsExactly("message1", "message2");
+
+		this.messageHandler.handleMessage(createMessage("/foo", "message3"));
+		assertThat(tasks).hasSize(1);
+	}
+
+	@Test
+	void connectPublishDisconnectWithDispatchExecutor() {
+		List<Runnable> tasks = new ArrayList<>();
+		this.messageHandler.setDispatchExecutor(tasks::add);
+
+		this.messageHandler.handleMessage(createConnectMessage("sess1", new TestPrincipal("joe"), null));
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess1", "sub1", "/foo"));
+		this.messageHandler.handleMessage(createMessage("/foo", "message1"));
+
+		SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+		headers.setSessionId("sess1");
+		this.messageHandler.handleMessage(MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()));
+
+		// All messages for the session go through the session's lane
+		verifyNoMoreInteractions(this.clientOutChannel);
+		while (!tasks.isEmpty()) {
+			tasks.remove(0).run();
+		}
+
+		verify(this.clientOutChannel, times(3)).send(this.messageCaptor.capture());
+		assertThat(this.messageCaptor.getAllValues())
+				.extracting(message -> SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))
+				.containsExactly(SimpMessageType.CONNECT_ACK, SimpMessageType.MESSAGE, SimpMessageType.DISCONNECT_ACK);
+		assertThat(this.messageCaptor.getAllValues().get(1).getPayload()).isEqualTo("message1");
+	}
+
 	@Test
 	void subscribeDisconnectPublish() {
 		String sess1 = "sess1";
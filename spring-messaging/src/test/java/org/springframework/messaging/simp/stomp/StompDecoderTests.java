@@ -17,6 +17,7 @@
 package org.springframework.messaging.simp.stomp;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -276,6 +277,129 @@ class StompDecoderTests {
 		assertThat(StompHeaderAccessor.wrap(messages.get(0)).getMessageType()).isEqualTo(SimpMessageType.HEARTBEAT);
 	}
 
+	@Test
+	void decodeFrameFromDirectBuffer() {
+		Message<byte[]> frame = decode(directBuffer("SEND\ndestination:test\nx-custom:value\n\nThe body of the message\0"));
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SEND);
+
+		assertThat(headers.toNativeHeaderMap()).hasSize(2);
+		assertThat(headers.getDestination()).isEqualTo("test");
+		assertThat(headers.getFirstNativeHeader("x-custom")).isEqualTo("value");
+
+		assertThat(new String(frame.getPayload())).isEqualTo("The body of the message");
+	}
+
+	@Test
+	void decodeFrameFromBufferWithArrayOffset() {
+		byte[] bytes = "XXSEND\ndestination:test\n\nbody\0XX".getBytes();
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+
+		Message<byte[]> frame = decode(buffer);
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SEND);
+		assertThat(headers.getDestination()).isEqualTo("test");
+		assertThat(new String(frame.getPayload())).isEqualTo("body");
+	}
+
+	@Test
+	void decodeFrameWithKnownHeaderNames() {
+		Message<byte[]> frame = decode("MESSAGE\ndestination:/topic/a\nsubscription:s1\nmessage-id:m1\n" +
+				"content-type:text/plain\ncontent-length:4\n\nbody\0");
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.MESSAGE);
+		assertThat(headers.toNativeHeaderMap()).containsOnlyKeys(
+				"destination", "subscription", "message-id", "content-type", "content-length");
+		assertThat(headers.getDestination()).isEqualTo("/topic/a");
+		assertThat(headers.getSubscriptionId()).isEqualTo("s1");
+		assertThat(headers.getMessageId()).isEqualTo("m1");
+		assertThat(headers.getContentType()).hasToString("text/plain");
+		assertThat(headers.getContentLength()).isEqualTo(4);
+	}
+
+	@Test
+	void decodeFrameWithHeaderNamesSimilarToKnownHeaderNames() {
+		Message<byte[]> frame = decode("SEND\ndestinatio:a\ndestinations:b\ndestinatioN:c\nids:d\ni:e\n" +
+				"destination:test\n\n\0");
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+		assertThat(headers.toNativeHeaderMap()).hasSize(6);
+		assertThat(headers.getFirstNativeHeader("destinatio")).isEqualTo("a");
+		assertThat(headers.getFirstNativeHeader("destinations")).isEqualTo("b");
+		assertThat(headers.getFirstNativeHeader("destinatioN")).isEqualTo("c");
+		assertThat(headers.getFirstNativeHeader("ids")).isEqualTo("d");
+		assertThat(headers.getFirstNativeHeader("i")).isEqualTo("e");
+		assertThat(headers.getDestination()).isEqualTo("test");
+	}
+
+	@Test
+	void decodeFramesWithCommandsSimilarToOtherCommands() {
+		ByteBuffer buffer = ByteBuffer.wrap(("CONNECTED\nversion:1.2\n\n\0" + "CONNECT\naccept-version:1.2\n\n\0" +
+				"NACK\nid:1\n\n\0" + "ACK\nid:2\n\n\0" + "STOMP\naccept-version:1.2\n\n\0").getBytes());
+
+		List<Message<byte[]>> messages = this.decoder.decode(buffer);
+
+		assertThat(messages).extracting(message -> StompHeaderAccessor.wrap(message).getCommand()).containsExactly(
+				StompCommand.CONNECTED, StompCommand.CONNECT, StompCommand.NACK, StompCommand.ACK, StompCommand.STOMP);
+	}
+
+	@Test
+	void decodeFrameWithUnknownCommand() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+				decode("SENDS\ndestination:test\n\n\0"));
+	}
+
+	@Test
+	void decodeFrameWithCustomHeaderNames() {
+		String frameContent = "SEND\nx-custom-header:1\nX-Destination:2\ncontent-length-x:3\nкључ:вредност\n" +
+				"a\\cb:4\n\n\0";
+		for (ByteBuffer buffer : List.of(utf8Buffer(frameContent), directBuffer(frameContent))) {
+			Message<byte[]> frame = decode(buffer);
+			StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+			assertThat(headers.toNativeHeaderMap()).hasSize(5);
+			assertThat(headers.getFirstNativeHeader("x-custom-header")).isEqualTo("1");
+			assertThat(headers.getFirstNativeHeader("X-Destination")).isEqualTo("2");
+			assertThat(headers.getFirstNativeHeader("content-length-x")).isEqualTo("3");
+			assertThat(headers.getFirstNativeHeader("кључ")).isEqualTo("вредност");
+			assertThat(headers.getFirstNativeHeader("a:b")).isEqualTo("4");
+			assertThat(headers.getDestination()).isNull();
+			assertThat(headers.getContentLength()).isNull();
+		}
+	}
+
+	@Test
+	void decodeFrameSplitAcrossBuffers() {
+		String frameContent = "MESSAGE\ndestination:/topic/a\nsubscription:s1\nx-custom:кључ\ncontent-length:4\n\nbody\0";
+		byte[] bytes = frameContent.getBytes(StandardCharsets.UTF_8);
+		for (int split = 1; split < bytes.length; split++) {
+			for (boolean direct : new boolean[] {false, true}) {
+				ByteBuffer first = buffer(bytes, split, direct);
+				assertThat(this.decoder.decode(first)).as("split at %d", split).isEmpty();
+				assertThat(first.position()).as("split at %d", split).isEqualTo(0);
+
+				Message<byte[]> frame = decode(buffer(bytes, bytes.length, direct));
+				StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+				assertThat(headers.getCommand()).isEqualTo(StompCommand.MESSAGE);
+				assertThat(headers.getDestination()).isEqualTo("/topic/a");
+				assertThat(headers.getSubscriptionId()).isEqualTo("s1");
+				assertThat(headers.getFirstNativeHeader("x-custom")).isEqualTo("кључ");
+				assertThat(new String(frame.getPayload())).isEqualTo("body");
+			}
+		}
+	}
+
+	@Test
+	void decodeIncompleteFrameFromDirectBuffer() {
+		ByteBuffer buffer = directBuffer("SEND\ndestination:test\n\nThe body");
+		assertThat(decode(buffer)).isNull();
+		assertThat(buffer.position()).isEqualTo(0);
+	}
+
 	private void assertIncompleteDecode(String partialFrame) {
 		ByteBuffer buffer = ByteBuffer.wrap(partialFrame.getBytes());
 		assertThat(decode(buffer)).isNull();
@@ -287,6 +411,24 @@ class StompDecoderTests {
 		return decode(buffer);
 	}
 
+	private static ByteBuffer utf8Buffer(String content) {
+		return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static ByteBuffer directBuffer(String content) {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		return buffer(bytes, bytes.length, true);
+	}
+
+	private static ByteBuffer buffer(byte[] bytes, int length, boolean direct) {
+		if (!direct) {
+			return ByteBuffer.wrap(bytes, 0, length).slice();
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+		buffer.put(bytes, 0, length);
+		return buffer.flip();
+	}
+
 	private Message<byte[]> decode(ByteBuffer buffer) {
 		List<Message<byte[]>> messages = this.decoder.decode(buffer);
 		if (messages.isEmpty()) {
@@ -73,6 +73,37 @@ class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\na:alpha\ncontent-length:12\n\nMessage body\0");
 	}
 
+	@Test
+	void encodeMessageFramesWithSamePayload() {
+		byte[] payload = "Message body".getBytes();
+
+		assertThat(new String(encoder.encode(createMessageFrame("/topic/a", "sub1", "mess1", payload))))
+				.isEqualTo("MESSAGE\ndestination:/topic/a\nsubscription:sub1\nmessage-id:mess1\ncontent-length:12\n\nMessage body\0");
+		assertThat(new String(encoder.encode(createMessageFrame("/topic/a", "sub2", "mess2", payload))))
+				.isEqualTo("MESSAGE\ndestination:/topic/a\nsubscription:sub2\nmessage-id:mess2\ncontent-length:12\n\nMessage body\0");
+		assertThat(new String(encoder.encode(createMessageFrame("/topic/a", "sub3", "mess3", payload))))
+				.isEqualTo("MESSAGE\ndestination:/topic/a\nsubscription:sub3\nmessage-id:mess3\ncontent-length:12\n\nMessage body\0");
+		assertThat(new String(encoder.encode(createMessageFrame("/topic/b", "sub4", "mess4", payload))))
+				.isEqualTo("MESSAGE\ndestination:/topic/b\nsubscription:sub4\nmessage-id:mess4\ncontent-length:12\n\nMessage body\0");
+	}
+
+	@Test
+	void encodeMessageFramesPreservesHeaderOrder() {
+		byte[] sharedPayload = "Message body".getBytes();
+		for (int i = 0; i < 3; i++) {
+			byte[] payload = (i < 2 ? sharedPayload : "Message body".getBytes());
+			StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+			headers.setSubscriptionId("sub" + i);
+			headers.addNativeHeader("a", "alpha");
+			headers.setMessageId("mess" + i);
+			headers.setDestination("/topic/a");
+			Message<byte[]> frame = MessageBuilder.createMessage(payload, headers.getMessageHeaders());
+
+			assertThat(new String(encoder.encode(frame))).isEqualTo("MESSAGE\nsubscription:sub" + i +
+					"\na:alpha\nmessage-id:mess" + i + "\ndestination:/topic/a\ncontent-length:12\n\nMessage body\0");
+		}
+	}
+
 	@Test
 	void encodeFrameWithContentLengthPresent() {
 		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
@@ -83,4 +114,15 @@ class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\ncontent-length:12\n\nMessage body\0");
 	}
 
+
+	private static Message<byte[]> createMessageFrame(
+			String destination, String subscriptionId, String messageId, byte[] payload) {
+
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+		headers.setDestination(destination);
+		headers.setSubscriptionId(subscriptionId);
+		headers.setMessageId(messageId);
+		return MessageBuilder.createMessage(payload, headers.getMessageHeaders());
+	}
+
 }
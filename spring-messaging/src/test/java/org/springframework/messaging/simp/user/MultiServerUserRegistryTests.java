@@ -158,6 +158,75 @@ class MultiServerUserRegistryTests {
 		assertThat(user.getSession("sess456")).isEqualTo(remoteSession);
 	}
 
+	@Test
+	void getUserFromRemoteRegistryDeltas() {
+		// Prepare broadcast messages from remote server
+		TestSimpUser joe = new TestSimpUser("joe");
+		TestSimpSession joeSession = new TestSimpSession("sess1");
+		joeSession.addSubscriptions(new TestSimpSubscription("sub1", "/dest1"));
+		joe.addSessions(joeSession);
+		Set<SimpUser> remoteUsers = new HashSet<>(Collections.singleton(joe));
+		SimpUserRegistry remoteRegistry = mock();
+		given(remoteRegistry.getUsers()).willReturn(remoteUsers);
+		MultiServerUserRegistry remoteMultiServerRegistry = new MultiServerUserRegistry(remoteRegistry);
+
+		Object snapshotDto = remoteMultiServerRegistry.getLocalRegistryDelta(false);
+		this.registry.addRemoteRegistryDto(this.converter.toMessage(snapshotDto, null), this.converter, 20000);
+		assertThat(this.registry.getUserCount()).isEqualTo(1);
+
+		TestSimpUser jane = new TestSimpUser("jane");
+		jane.addSessions(new TestSimpSession("sess2"));
+		remoteUsers.add(jane);
+		joeSession.addSubscriptions(new TestSimpSubscription("sub2", "/dest2"));
+		Object deltaDto = remoteMultiServerRegistry.getLocalRegistryDelta(false);
+		this.registry.addRemoteRegistryDto(this.converter.toMessage(deltaDto, null), this.converter, 20000);
+
+		assertThat(this.registry.getUserCount()).isEqualTo(2);
+		assertThat(this.registry.getUser("jane")).isNotNull();
+		SimpSession session = this.registry.getUser("joe").getSession("sess1");
+		assertThat(session).isNotNull();
+		assertThat(session.getSubscriptions()).extracting(SimpSubscription::getDestination)
+				.containsExactlyInAnyOrder("/dest1", "/dest2");
+
+		remoteUsers.remove(joe);
+		deltaDto = remoteMultiServerRegistry.getLocalRegistryDelta(false);
+		this.registry.addRemoteRegistryDto(this.converter.toMessage(deltaDto, null), this.converter, 20000);
+
+		assertThat(this.registry.getUserCount()).isEqualTo(1);
+		assertThat(this.registry.getUser("joe")).isNull();
+	}
+
+	@Test
+	void requestFullSnapshotAfterMissedDelta() {
+		TestSimpUser joe = new TestSimpUser("joe");
+		joe.addSessions(new TestSimpSession("sess1"));
+		Set<SimpUser> remoteUsers = new HashSet<>(Collections.singleton(joe));
+		SimpUserRegistry remoteRegistry = mock();
+		given(remoteRegistry.getUsers()).willReturn(remoteUsers);
+		given(this.localRegistry.getUsers()).willReturn(Collections.emptySet());
+		MultiServerUserRegistry remoteMultiServerRegistry = new MultiServerUserRegistry(remoteRegistry);
+
+		Object snapshotDto = remoteMultiServerRegistry.getLocalRegistryDelta(false);
+		this.registry.addRemoteRegistryDto(this.converter.toMessage(snapshotDto, null), this.converter, 20000);
+
+		TestSimpUser jane = new TestSimpUser("jane");
+		jane.addSessions(new TestSimpSession("sess2"));
+		remoteUsers.add(jane);
+		remoteMultiServerRegistry.getLocalRegistryDelta(false);
+		Object deltaDto = remoteMultiServerRegistry.getLocalRegistryDelta(false);
+		this.registry.addRemoteRegistryDto(this.converter.toMessage(deltaDto, null), this.converter, 20000);
+		assertThat(this.registry.getUser("jane")).isNull();
+
+		// Request for a full snapshot with the next broadcast
+		Object localDto = this.registry.getLocalRegistryDelta(false);
+		remoteMultiServerRegistry.addRemoteRegistryDto(this.converter.toMessage(localDto, null), this.converter, 20000);
+		snapshotDto = remoteMultiServerRegistry.getLocalRegistryDelta(false);
+		this.registry.addRemoteRegistryDto(this.converter.toMessage(snapshotDto, null), this.converter, 20000);
+
+		assertThat(this.registry.getUserCount()).isEqualTo(2);
+		assertThat(this.registry.getUser("jane")).isNotNull();
+	}
+
 	@Test
 	void purgeExpiredRegistries() {
 		// Prepare broadcast message from remote server
@@ -16,6 +16,12 @@
 
 package org.springframework.messaging.support;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -96,6 +102,164 @@ class ExecutorSubscribableChannelTests {
 		assertThat(interceptor.wasAfterHandledInvoked()).isTrue();
 	}
 
+	@Test
+	void sendWithExecutorInBatches() {
+		BeforeHandleInterceptor interceptor = new BeforeHandleInterceptor();
+		TaskExecutor executor = mock();
+		ExecutorSubscribableChannel testChannel = new ExecutorSubscribableChannel(executor);
+		testChannel.setBatchSize(2);
+		testChannel.setMaxWorkersPerHandler(1);
+		testChannel.addInterceptor(interceptor);
+		List<List<Message<?>>> batches = new ArrayList<>();
+		testChannel.subscribe(new BatchMessageHandler() {
+			@Override
+			public void handleMessage(Message<?> message) {
+				throw new IllegalStateException("Unexpected single message");
+			}
+			@Override
+			public void handleMessages(List<Message<?>> messages) {
+				batches.add(new ArrayList<>(messages));
+			}
+		});
+		Message<?> message2 = MessageBuilder.withPayload("2").build();
+		Message<?> message3 = MessageBuilder.withPayload("3").build();
+		testChannel.send(this.message);
+		testChannel.send(message2);
+		testChannel.send(message3);
+		verify(executor).execute(this.runnableCaptor.capture());
+		assertThat(batches).isEmpty();
+		this.runnableCaptor.getValue().run();
+		assertThat(batches).containsExactly(List.of(this.message, message2), List.of(message3));
+		assertThat(interceptor.getCounter().get()).isEqualTo(3);
+		assertThat(interceptor.wasAfterHandledInvoked()).isTrue();
+	}
+
+	@Test
+	void sendWithExecutorInBatchesAndInterceptorWithException() {
+		TaskExecutor executor = mock();
+		ExecutorSubscribableChannel testChannel = new ExecutorSubscribableChannel(executor);
+		testChannel.setBatchSize(2);
+		testChannel.setMaxWorkersPerHandler(1);
+		BeforeHandleInterceptor interceptor = new BeforeHandleInterceptor() {
+			@Override
+			public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+				if (message.getPayload().equals("1")) {
+					throw new IllegalStateException("Fake exception");
+				}
+				return super.beforeHandle(message, channel, handler);
+			}
+		};
+		testChannel.addInterceptor(interceptor);
+		List<List<Message<?>>> batches = new ArrayList<>();
+		testChannel.subscribe(new BatchMessageHandler() {
+			@Override
+			public void handleMessage(Message<?> message) {
+				throw new IllegalStateException("Unexpected single message");
+			}
+			@Override
+			public void handleMessages(List<Message<?>> messages) {
+				batches.add(new ArrayList<>(messages));
+			}
+		});
+		Message<?> message1 = MessageBuilder.withPayload("1").build();
+		Message<?> message2 = MessageBuilder.withPayload("2").build();
+		Message<?> message3 = MessageBuilder.withPayload("3").build();
+		testChannel.send(message1);
+		testChannel.send(message2);
+		verify(executor).execute(this.runnableCaptor.capture());
+		this.runnableCaptor.getValue().run();
+		assertThat(batches).containsExactly(List.of(message2));
+
+		// Worker slot released -> next message drained by a new worker
+		testChannel.send(message3);
+		verify(executor, times(2)).execute(this.runnableCaptor.capture());
+		this.runnableCaptor.getValue().run();
+		assertThat(batches).containsExactly(List.of(message2), List.of(message3));
+	}
+
+	@Test
+	void sendWithExecutorInBatchesAndHandlerWithError() {
+		TaskExecutor executor = mock();
+		ExecutorSubscribableChannel testChannel = new ExecutorSubscribableChannel(executor);
+		testChannel.setBatchSize(2);
+		testChannel.setMaxWorkersPerHandler(1);
+		List<List<Message<?>>> batches = new ArrayList<>();
+		testChannel.subscribe(new BatchMessageHandler() {
+			@Override
+			public void handleMessage(Message<?> message) {
+				throw new IllegalStateException("Unexpected single message");
+			}
+			@Override
+			public void handleMessages(List<Message<?>> messages) {
+				batches.add(new ArrayList<>(messages));
+				if (batches.size() == 1) {
+					throw new AssertionError("Fake error");
+				}
+			}
+		});
+		Message<?> message2 = MessageBuilder.withPayload("2").build();
+		testChannel.send(this.message);
+		verify(executor).execute(this.runnableCaptor.capture());
+		this.runnableCaptor.getValue().run();
+
+		testChannel.send(message2);
+		verify(executor, times(2)).execute(this.runnableCaptor.capture());
+		this.runnableCaptor.getValue().run();
+		assertThat(batches).containsExactly(List.of(this.message), List.of(message2));
+	}
+
+	@Test
+	void sendWithExecutorInBatchesHandsOverAfterMaxBatches() {
+		List<Runnable> tasks = new ArrayList<>();
+		ExecutorSubscribableChannel testChannel = new ExecutorSubscribableChannel(tasks::add);
+		testChannel.setBatchSize(2);
+		testChannel.setMaxWorkersPerHandler(1);
+		AtomicInteger handled = new AtomicInteger();
+		testChannel.subscribe(message -> handled.incrementAndGet());
+		int messageCount = ExecutorSubscribableChannel.MAX_BATCHES_PER_WORKER_RUN * 2 + 5;
+		for (int i = 0; i < messageCount; i++) {
+			testChannel.send(this.message);
+		}
+		assertThat(tasks).hasSize(1);
+		tasks.remove(0).run();
+		assertThat(handled.get()).isEqualTo(ExecutorSubscribableChannel.MAX_BATCHES_PER_WORKER_RUN * 2);
+		assertThat(tasks).hasSize(1);
+		tasks.remove(0).run();
+		assertThat(handled.get()).isEqualTo(messageCount);
+		assertThat(tasks).isEmpty();
+	}
+
+	@Test
+	void sendWithExecutorInBatchesToSubscribersSharingSmallPool() throws Exception {
+		ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+		CountDownLatch release = new CountDownLatch(1);
+		int messageCount = 1000;
+		CountDownLatch received = new CountDownLatch(messageCount);
+		try {
+			ExecutorSubscribableChannel testChannel = new ExecutorSubscribableChannel(executor);
+			testChannel.setBatchSize(4);
+			testChannel.subscribe(message -> {
+				try {
+					release.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			testChannel.subscribe(message -> received.countDown());
+			assertThat(testChannel.getMaxWorkersPerHandler()).isEqualTo(1);
+			for (int i = 0; i < messageCount; i++) {
+				testChannel.send(MessageBuilder.withPayload(i).build());
+			}
+			assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			release.countDown();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		}
+	}
+
 	@Test
 	void subscribeTwice() {
 		assertThat(this.channel.subscribe(this.handler)).isTrue();
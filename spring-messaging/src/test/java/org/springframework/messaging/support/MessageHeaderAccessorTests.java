@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -332,6 +333,28 @@ class MessageHeaderAccessorTests {
 	}
 
 
+	@Test
+	void idGeneratorDeferred() {
+		AtomicInteger count = new AtomicInteger();
+		MessageHeaderAccessor accessor = new MessageHeaderAccessor();
+		accessor.setIdGenerator(() -> new UUID(0L, count.incrementAndGet()));
+		accessor.setDeferIdGeneration(true);
+		accessor.setHeader("foo", "bar");
+		MessageHeaders headers = accessor.getMessageHeaders();
+
+		assertThat(headers.get("foo")).isEqualTo("bar");
+		assertThat(count.get()).isEqualTo(0);
+
+		MessageHeaderAccessor copy = MessageHeaderAccessor.getMutableAccessor(MessageBuilder.createMessage("payload", headers));
+		assertThat(copy.getMessageHeaders()).containsEntry("foo", "bar");
+		assertThat(count.get()).isEqualTo(0);
+
+		assertThat(headers.getId()).isEqualTo(new UUID(0L, 1L));
+		assertThat(headers.getId()).isSameAs(headers.getId());
+		assertThat(headers).containsKeys(MessageHeaders.ID, "foo");
+		assertThat(count.get()).isEqualTo(1);
+	}
+
 	@Test
 	void idTimestampWithMutableHeaders() {
 		MessageHeaderAccessor accessor = new MessageHeaderAccessor();
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.reactive;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Benchmarks for short transactions demarcated by a {@link TransactionalOperator},
+ * using a transaction manager without any actual resource so that the overhead
+ * of the reactive transaction infrastructure dominates.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TransactionalOperatorBenchmark {
+
+	@Benchmark
+	public void transactionalMono(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.mono.as(state.operator::transactional).block());
+	}
+
+	@Benchmark
+	public void transactionalFlux(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.flux.as(state.operator::transactional).blockLast());
+	}
+
+	@Benchmark
+	public void nestedTransactionalMono(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.mono.as(state.operator::transactional).as(state.operator::transactional).block());
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public TransactionalOperator operator;
+
+		public Mono<String> mono;
+
+		public Flux<String> flux;
+
+		@Setup
+		public void setup() {
+			this.operator = TransactionalOperator.create(new NoOpTransactionManager());
+			this.mono = Mono.just("value");
+			this.flux = Flux.just("value1", "value2");
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+		@Override
+		protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+			return new Object();
+		}
+
+		@Override
+		protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager,
+				Object transaction, TransactionDefinition definition) {
+
+			return Mono.empty();
+		}
+
+		@Override
+		protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+				GenericReactiveTransaction status) {
+
+			return Mono.empty();
+		}
+
+		@Override
+		protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+				GenericReactiveTransaction status) {
+
+			return Mono.empty();
+		}
+	}
+
+}
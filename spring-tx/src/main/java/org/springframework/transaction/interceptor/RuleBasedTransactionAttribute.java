@@ -19,9 +19,12 @@ package org.springframework.transaction.interceptor;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.ConcurrentReferenceHashMap;
+
 /**
  * TransactionAttribute implementation that works out whether a given exception
  * should cause transaction rollback by applying a number of rollback rules,
@@ -47,6 +50,8 @@ public class RuleBasedTransactionAttribute extends DefaultTransactionAttribute i
 
 	private @Nullable List<RollbackRuleAttribute> rollbackRules;
 
+	private transient volatile @Nullable RollbackDecisionCache rollbackDecisionCache;
+
 
 	/**
 	 * Create a new RuleBasedTransactionAttribute, with default settings.
@@ -121,6 +126,30 @@ public class RuleBasedTransactionAttribute extends DefaultTransactionAttribute i
 	 */
 	@Override
 	public boolean rollbackOn(Throwable ex) {
+		List<RollbackRuleAttribute> rules = this.rollbackRules;
+		if (rules == null || rules.isEmpty()) {
+			return super.rollbackOn(ex);
+		}
+
+		// Rules only depend on the type of exception: reuse the decision for that type,
+		// as long as the rules have not been replaced or modified in the meantime.
+		RollbackDecisionCache decisionCache = this.rollbackDecisionCache;
+		if (decisionCache == null || !decisionCache.isFor(rules)) {
+			if (!RollbackDecisionCache.isCacheable(rules)) {
+				return determineRollback(ex);
+			}
+			decisionCache = new RollbackDecisionCache(rules);
+			this.rollbackDecisionCache = decisionCache;
+		}
+		Boolean decision = decisionCache.decisions.get(ex.getClass());
+		if (decision == null) {
+			decision = determineRollback(ex);
+			decisionCache.decisions.put(ex.getClass(), decision);
+		}
+		return decision;
+	}
+
+	private boolean determineRollback(Throwable ex) {
 		RollbackRuleAttribute winner = null;
 		int deepest = Integer.MAX_VALUE;
 
@@ -155,4 +184,44 @@ public class RuleBasedTransactionAttribute extends DefaultTransactionAttribute i
 		return result.toString();
 	}
 
+
+	/**
+	 * Rollback decisions per exception type for a specific set of rules.
+	 */
+	private static final class RollbackDecisionCache {
+
+		private final RollbackRuleAttribute[] rules;
+
+		final Map<Class<?>, Boolean> decisions = new ConcurrentReferenceHashMap<>(16);
+
+		RollbackDecisionCache(List<RollbackRuleAttribute> rules) {
+			this.rules = rules.toArray(new RollbackRuleAttribute[0]);
+		}
+
+		boolean isFor(List<RollbackRuleAttribute> currentRules) {
+			if (currentRules.size() != this.rules.length) {
+				return false;
+			}
+			for (int i = 0; i < this.rules.length; i++) {
+				if (currentRules.get(i) != this.rules[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Only cache decisions for the standard rule types whose depth is
+		 * known to depend on the type of exception only.
+		 */
+		static boolean isCacheable(List<RollbackRuleAttribute> rules) {
+			for (RollbackRuleAttribute rule : rules) {
+				if (rule.getClass() != RollbackRuleAttribute.class && rule.getClass() != NoRollbackRuleAttribute.class) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 }
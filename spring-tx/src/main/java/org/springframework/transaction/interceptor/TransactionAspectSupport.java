@@ -187,6 +187,12 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	private final ConcurrentMap<Method, ReactiveTransactionSupport> transactionSupportCache =
 			new ConcurrentReferenceHashMap<>(1024);
 
+	private final ConcurrentMap<Method, ConcurrentMap<@Nullable Class<?>, TransactionPlan>> transactionPlanCache =
+			new ConcurrentReferenceHashMap<>(1024);
+
+	private final ConcurrentMap<Class<?>, String> typeQualifierCache =
+			new ConcurrentReferenceHashMap<>(16);
+
 
 	protected TransactionAspectSupport() {
 		if (REACTIVE_STREAMS_PRESENT) {
@@ -358,11 +364,12 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 
 		PlatformTransactionManager ptm = asPlatformTransactionManager(tm);
-		final String joinpointIdentification = methodIdentification(method, targetClass, txAttr);
+		TransactionPlan plan = getTransactionPlan(method, targetClass, txAttr);
+		final String joinpointIdentification = plan.joinpointIdentification();
 
 		if (txAttr == null || !(ptm instanceof CallbackPreferringPlatformTransactionManager cpptm)) {
 			// Standard transaction demarcation with getTransaction and commit/rollback calls.
-			TransactionInfo txInfo = createTransactionIfNecessary(ptm, txAttr, joinpointIdentification);
+			TransactionInfo txInfo = createTransactionIfNecessary(ptm, plan.namedTransactionAttribute(), joinpointIdentification);
 
 			Object retVal;
 			try {
@@ -505,7 +512,10 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 		else if (targetClass != null) {
 			// Consider type-level qualifier annotations for transaction manager selection
-			String typeQualifier = BeanFactoryAnnotationUtils.getQualifierValue(targetClass);
+			String typeQualifier = this.typeQualifierCache.computeIfAbsent(targetClass, clazz -> {
+				String qualifierValue = BeanFactoryAnnotationUtils.getQualifierValue(clazz);
+				return (qualifierValue != null ? qualifierValue : "");
+			});
 			if (StringUtils.hasText(typeQualifier)) {
 				try {
 					return determineQualifiedTransactionManager(this.beanFactory, typeQualifier);
@@ -565,6 +575,37 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 	}
 
+	/**
+	 * Return the {@link TransactionPlan} for the given method and target class,
+	 * reusing the plan computed for a previous invocation if the transaction
+	 * attribute is the same.
+	 */
+	private TransactionPlan getTransactionPlan(Method method, @Nullable Class<?> targetClass,
+			@Nullable TransactionAttribute txAttr) {
+
+		ConcurrentMap<@Nullable Class<?>, TransactionPlan> plans = this.transactionPlanCache.get(method);
+		if (plans == null) {
+			plans = this.transactionPlanCache.computeIfAbsent(method, key -> new ConcurrentReferenceHashMap<>(4));
+		}
+		TransactionPlan plan = plans.get(targetClass);
+		if (plan == null || plan.transactionAttribute() != txAttr) {
+			String joinpointIdentification = methodIdentification(method, targetClass, txAttr);
+			TransactionAttribute namedTxAttr = txAttr;
+			if (txAttr != null && txAttr.getName() == null) {
+				// If no name specified, apply method identification as transaction name.
+				namedTxAttr = new DelegatingTransactionAttribute(txAttr) {
+					@Override
+					public String getName() {
+						return joinpointIdentification;
+					}
+				};
+			}
+			plan = new TransactionPlan(txAttr, namedTxAttr, joinpointIdentification);
+			plans.put(targetClass, plan);
+		}
+		return plan;
+	}
+
 	private String methodIdentification(Method method, @Nullable Class<?> targetClass,
 			@Nullable TransactionAttribute txAttr) {
 
@@ -748,6 +789,16 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	}
 
 
+	/**
+	 * Transaction attribute and joinpoint identification resolved for an
+	 * invocation of a specific method on a specific target class, allowing
+	 * subsequent invocations to avoid deriving the transaction name again.
+	 */
+	private record TransactionPlan(@Nullable TransactionAttribute transactionAttribute,
+			@Nullable TransactionAttribute namedTransactionAttribute, String joinpointIdentification) {
+	}
+
+
 	/**
 	 * Opaque object used to hold transaction information. Subclasses
 	 * must pass it back to methods on this class, but not see its internals.
@@ -922,7 +973,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 			if (Mono.class.isAssignableFrom(method.getReturnType()) || (KotlinDetector.isSuspendingFunction(method) &&
 					!COROUTINES_FLOW_CLASS_NAME.equals(new MethodParameter(method, -1).getParameterType().getName()))) {
 
-				return TransactionContextManager.currentContext().flatMap(context ->
+				return Mono.defer(() ->
 							Mono.<Object, ReactiveTransactionInfo>usingWhen(
 								createTransactionIfNecessary(rtm, txAttr, joinpointIdentification),
 								tx -> {
@@ -942,7 +993,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 			}
 
 			// Any other reactive type, typically a Flux
-			return this.adapter.fromPublisher(TransactionContextManager.currentContext().flatMapMany(context ->
+			return this.adapter.fromPublisher(Flux.defer(() ->
 						Flux.usingWhen(
 							createTransactionIfNecessary(rtm, txAttr, joinpointIdentification),
 							tx -> {
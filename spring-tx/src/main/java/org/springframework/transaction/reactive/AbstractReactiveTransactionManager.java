@@ -143,30 +143,29 @@ public abstract class AbstractReactiveTransactionManager
 					def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW ||
 					def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_NESTED) {
 
-				return TransactionContextManager.currentContext()
-						.map(TransactionSynchronizationManager::new)
-						.flatMap(nestedSynchronizationManager ->
-								suspend(nestedSynchronizationManager, null)
-								.map(Optional::of)
-								.defaultIfEmpty(Optional.empty())
-								.flatMap(suspendedResources -> {
-							if (debugEnabled) {
-								logger.debug("Creating new transaction with name [" + def.getName() + "]: " + def);
-							}
-							return Mono.defer(() -> {
-								GenericReactiveTransaction status = newReactiveTransaction(
-										nestedSynchronizationManager, def, transaction, true,
-										false, debugEnabled, suspendedResources.orElse(null));
-								this.transactionExecutionListeners.forEach(listener -> listener.beforeBegin(status));
-								return doBegin(nestedSynchronizationManager, transaction, def)
-										.doOnSuccess(ignore -> prepareSynchronization(nestedSynchronizationManager, status, def))
-										.doOnError(ex -> this.transactionExecutionListeners.forEach(listener -> listener.afterBegin(status, ex)))
-										.thenReturn(status);
-							}).doOnSuccess(status -> this.transactionExecutionListeners.forEach(listener -> listener.afterBegin(status, null)))
-							.onErrorResume(ErrorPredicates.RUNTIME_OR_ERROR,
-									ex -> resume(nestedSynchronizationManager, null, suspendedResources.orElse(null))
-											.then(Mono.error(ex)));
-						}));
+				// The synchronization manager above already operates on the current
+				// TransactionContext, so there is no need to look it up again.
+				return suspend(synchronizationManager, null)
+						.map(Optional::of)
+						.defaultIfEmpty(Optional.empty())
+						.flatMap(suspendedResources -> {
+					if (debugEnabled) {
+						logger.debug("Creating new transaction with name [" + def.getName() + "]: " + def);
+					}
+					return Mono.defer(() -> {
+						GenericReactiveTransaction status = newReactiveTransaction(
+								synchronizationManager, def, transaction, true,
+								false, debugEnabled, suspendedResources.orElse(null));
+						this.transactionExecutionListeners.forEach(listener -> listener.beforeBegin(status));
+						return doBegin(synchronizationManager, transaction, def)
+								.doOnSuccess(ignore -> prepareSynchronization(synchronizationManager, status, def))
+								.doOnError(ex -> this.transactionExecutionListeners.forEach(listener -> listener.afterBegin(status, ex)))
+								.thenReturn(status);
+					}).doOnSuccess(status -> this.transactionExecutionListeners.forEach(listener -> listener.afterBegin(status, null)))
+					.onErrorResume(ErrorPredicates.RUNTIME_OR_ERROR,
+							ex -> resume(synchronizationManager, null, suspendedResources.orElse(null))
+									.then(Mono.error(ex)));
+				});
 			}
 			else {
 				// Create "empty" transaction: no actual transaction, but potentially synchronization.
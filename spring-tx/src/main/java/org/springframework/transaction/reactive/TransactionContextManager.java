@@ -51,14 +51,13 @@ public abstract class TransactionContextManager {
 	 */
 	public static Mono<TransactionContext> currentContext() {
 		return Mono.deferContextual(ctx -> {
-			if (ctx.hasKey(TransactionContext.class)) {
-				return Mono.just(ctx.get(TransactionContext.class));
+			TransactionContext context = ctx.getOrDefault(TransactionContext.class, null);
+			if (context != null) {
+				return Mono.just(context);
 			}
-			if (ctx.hasKey(TransactionContextHolder.class)) {
-				TransactionContextHolder holder = ctx.get(TransactionContextHolder.class);
-				if (holder.hasContext()) {
-					return Mono.just(holder.currentContext());
-				}
+			TransactionContextHolder holder = ctx.getOrDefault(TransactionContextHolder.class, null);
+			if (holder != null && holder.hasContext()) {
+				return Mono.just(holder.currentContext());
 			}
 			return Mono.error(new NoTransactionInContextException());
 		});
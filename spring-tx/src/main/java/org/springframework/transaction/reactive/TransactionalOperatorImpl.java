@@ -73,7 +73,7 @@ final class TransactionalOperatorImpl implements TransactionalOperator {
 
 	@Override
 	public <T> Flux<T> execute(TransactionCallback<T> action) throws TransactionException {
-		return TransactionContextManager.currentContext().flatMapMany(context ->
+		return Flux.defer(() ->
 			Flux.usingWhen(
 				this.transactionManager.getReactiveTransaction(this.transactionDefinition),
 				action::doInTransaction,
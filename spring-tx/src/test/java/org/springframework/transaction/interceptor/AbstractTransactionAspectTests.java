@@ -17,10 +17,13 @@
 package org.springframework.transaction.interceptor;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import org.springframework.beans.testfixture.beans.DerivedTestBean;
 import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -118,6 +121,67 @@ public abstract class AbstractTransactionAspectTests {
 		verify(ptm).commit(status);
 	}
 
+	/**
+	 * Check that the transaction definition derived for a method is reused
+	 * for subsequent invocations of that method.
+	 */
+	@Test
+	void transactionDefinitionReusedForSubsequentInvocations() throws Exception {
+		TransactionAttribute txatt = new DefaultTransactionAttribute();
+
+		MapTransactionAttributeSource tas = new MapTransactionAttributeSource();
+		tas.register(getNameMethod, txatt);
+
+		TransactionStatus status = mock();
+		PlatformTransactionManager ptm = mock();
+		given(ptm.getTransaction(txatt)).willReturn(status);
+
+		TestBean tb = new TestBean();
+		ITestBean itb = (ITestBean) advised(tb, ptm, tas);
+
+		itb.getName();
+		itb.getName();
+
+		ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(ptm, times(2)).getTransaction(definitions.capture());
+		assertThat(definitions.getAllValues().get(1)).isSameAs(definitions.getAllValues().get(0));
+		assertThat(definitions.getValue().getName()).isEqualTo(TestBean.class.getName() + ".getName");
+		verify(ptm, times(2)).commit(status);
+	}
+
+	/**
+	 * Check that the transaction definitions derived for a method declared on
+	 * an interface are kept per target class when invocations alternate.
+	 */
+	@Test
+	void transactionDefinitionReusedForAlternatingTargetClasses() throws Exception {
+		TransactionAttribute txatt = new DefaultTransactionAttribute();
+
+		MapTransactionAttributeSource tas = new MapTransactionAttributeSource();
+		tas.register(getNameMethod, txatt);
+
+		TransactionStatus status = mock();
+		PlatformTransactionManager ptm = mock();
+		given(ptm.getTransaction(txatt)).willReturn(status);
+
+		ITestBean itb = (ITestBean) advised(new TestBean(), ptm, tas);
+		ITestBean derived = (ITestBean) advised(new DerivedTestBean(), ptm, tas);
+
+		itb.getName();
+		derived.getName();
+		itb.getName();
+		derived.getName();
+
+		ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(ptm, times(4)).getTransaction(definitions.capture());
+		List<TransactionDefinition> values = definitions.getAllValues();
+		assertThat(values.get(0).getName()).isEqualTo(TestBean.class.getName() + ".getName");
+		assertThat(values.get(1).getName()).isEqualTo(DerivedTestBean.class.getName() + ".getName");
+		assertThat(values.get(2)).isSameAs(values.get(0));
+		assertThat(values.get(3)).isSameAs(values.get(1));
+		verify(ptm, times(4)).commit(status);
+	}
+
 	/**
 	 * Check that a transaction is created and committed using
 	 * CallbackPreferringPlatformTransactionManager.
@@ -163,9 +163,50 @@ class RuleBasedTransactionAttributeTests {
 		assertThat(rta.rollbackOn(new MyBusinessWarningException())).isFalse();
 	}
 
+	@Test
+	void rulesModifiedAfterDecision() {
+		RuleBasedTransactionAttribute rta = new RuleBasedTransactionAttribute();
+		rta.getRollbackRules().add(new RollbackRuleAttribute(MyBusinessException.class));
+		assertThat(rta.rollbackOn(new MyBusinessWarningException())).isTrue();
+		assertThat(rta.rollbackOn(new MyBusinessWarningException())).isTrue();
+
+		rta.getRollbackRules().add(new NoRollbackRuleAttribute(MyBusinessWarningException.class));
+		assertThat(rta.rollbackOn(new MyBusinessWarningException())).isFalse();
+		assertThat(rta.rollbackOn(new MyBusinessException())).isTrue();
+
+		rta.getRollbackRules().set(0, new NoRollbackRuleAttribute(MyBusinessException.class));
+		assertThat(rta.rollbackOn(new MyBusinessWarningException())).isFalse();
+		assertThat(rta.rollbackOn(new MyBusinessException())).isFalse();
+
+		rta.setRollbackRules(Collections.emptyList());
+		assertThat(rta.rollbackOn(new MyBusinessException())).isFalse();
+		assertThat(rta.rollbackOn(new MyRuntimeException())).isTrue();
+	}
+
+	@Test
+	void customRuleEvaluatedForEachException() {
+		RuleBasedTransactionAttribute rta = new RuleBasedTransactionAttribute();
+		rta.getRollbackRules().add(new RollbackRuleAttribute(MyBusinessException.class) {
+			@Override
+			public int getDepth(Throwable exception) {
+				return ("rollback".equals(exception.getMessage()) ? 0 : -1);
+			}
+		});
+		assertThat(rta.rollbackOn(new MyBusinessException("rollback"))).isTrue();
+		assertThat(rta.rollbackOn(new MyBusinessException("commit"))).isFalse();
+	}
+
 
 	@SuppressWarnings("serial")
-	private static class MyBusinessException extends Exception {}
+	private static class MyBusinessException extends Exception {
+
+		MyBusinessException() {
+		}
+
+		MyBusinessException(String message) {
+			super(message);
+		}
+	}
 
 
 	@SuppressWarnings("serial")
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.io.Serial;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * {@link LinkedCaseInsensitiveMap} variant used as the default storage for
+ * {@link HttpHeaders}, resolving the case-insensitive keys of well-known header
+ * names from a shared table of interned, lower-case names.
+ *
+ * <p>This avoids a {@link String#toLowerCase(Locale)} allocation on every
+ * {@code get}, {@code put} and {@code containsKey} call for the headers that
+ * make up the vast majority of HTTP traffic, while any other header name falls
+ * back to the regular {@link Locale#ROOT} based conversion.
+ *
+ * @since 7.1
+ * @param <V> the value type
+ */
+final class CaseInsensitiveHeadersMap<V> extends LinkedCaseInsensitiveMap<V> {
+
+	@Serial
+	private static final long serialVersionUID = 6214328473418394587L;
+
+	private static final Map<String, String> wellKnownHeaderNames = new HashMap<>(256);
+
+	static {
+		String[] headerNames = {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_CHARSET, HttpHeaders.ACCEPT_ENCODING,
+				HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.ACCEPT_PATCH, HttpHeaders.ACCEPT_RANGES,
+				HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS,
+				HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN,
+				HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.ACCESS_CONTROL_MAX_AGE,
+				HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD,
+				HttpHeaders.AGE, HttpHeaders.ALLOW, HttpHeaders.AUTHORIZATION, HttpHeaders.CACHE_CONTROL,
+				HttpHeaders.CONNECTION, HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_DISPOSITION,
+				HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_LOCATION,
+				HttpHeaders.CONTENT_RANGE, HttpHeaders.CONTENT_TYPE, HttpHeaders.COOKIE, HttpHeaders.DATE,
+				HttpHeaders.ETAG, HttpHeaders.EXPECT, HttpHeaders.EXPIRES, HttpHeaders.FROM, HttpHeaders.HOST,
+				HttpHeaders.IF_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_RANGE,
+				HttpHeaders.IF_UNMODIFIED_SINCE, HttpHeaders.LAST_MODIFIED, HttpHeaders.LINK, HttpHeaders.LOCATION,
+				HttpHeaders.MAX_FORWARDS, HttpHeaders.ORIGIN, HttpHeaders.PRAGMA, HttpHeaders.PROXY_AUTHENTICATE,
+				HttpHeaders.PROXY_AUTHORIZATION, HttpHeaders.RANGE, HttpHeaders.REFERER, HttpHeaders.RETRY_AFTER,
+				HttpHeaders.SERVER, HttpHeaders.SET_COOKIE, HttpHeaders.SET_COOKIE2, HttpHeaders.TE,
+				HttpHeaders.TRAILER, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE, HttpHeaders.USER_AGENT,
+				HttpHeaders.VARY, HttpHeaders.VIA, HttpHeaders.WARNING, HttpHeaders.WWW_AUTHENTICATE,
+				"Forwarded", "Keep-Alive", "X-Forwarded-For", "X-Forwarded-Host", "X-Forwarded-Port",
+				"X-Forwarded-Prefix", "X-Forwarded-Proto", "X-Forwarded-Ssl", "X-Requested-With"};
+		for (String headerName : headerNames) {
+			String key = headerName.toLowerCase(Locale.ROOT).intern();
+			wellKnownHeaderNames.put(headerName, key);
+			wellKnownHeaderNames.put(key, key);
+			wellKnownHeaderNames.put(headerName.toUpperCase(Locale.ROOT), key);
+		}
+	}
+
+
+	/**
+	 * Create a new {@code CaseInsensitiveHeadersMap} with the given initial capacity.
+	 * @param expectedSize the expected number of elements
+	 */
+	CaseInsensitiveHeadersMap(int expectedSize) {
+		super(expectedSize, Locale.ROOT);
+	}
+
+
+	@Override
+	protected String convertKey(String key) {
+		String wellKnownKey = wellKnownHeaderNames.get(key);
+		return (wellKnownKey != null ? wellKnownKey : super.convertKey(key));
+	}
+
+}
@@ -442,7 +442,7 @@ public class HttpHeaders implements Serializable {
 	 * case-insensitive map.
 	 */
 	public HttpHeaders() {
-		this(CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ROOT)));
+		this(CollectionUtils.toMultiValueMap(new CaseInsensitiveHeadersMap<>(8)));
 	}
 
 	/**
@@ -477,7 +477,7 @@ public class HttpHeaders implements Serializable {
 	public HttpHeaders(HttpHeaders httpHeaders) {
 		Assert.notNull(httpHeaders, "HttpHeaders must not be null");
 		this.headers = (httpHeaders == EMPTY ?
-				CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH)) :
+				CollectionUtils.toMultiValueMap(new CaseInsensitiveHeadersMap<>(8)) :
 				unwrap(httpHeaders));
 	}
 
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Scope for a group of blocking exchanges, for example, through {@link RestClient}
+ * or an HTTP interface client, to be performed concurrently and joined with a
+ * shared deadline, rather than one after the other.
+ *
+ * <p>Each exchange {@link #fork forked} into the scope starts immediately on the
+ * configured executor, by default on a virtual thread on JDK 21+ and a new
+ * platform thread otherwise. {@link #join()} waits for all exchanges to complete,
+ * cancelling the remaining ones as soon as one of them fails or the deadline is
+ * reached, after which the results are available through the returned suppliers:
+ *
+ * <pre class="code">
+ * try (ParallelExchanges exchanges = ParallelExchanges.create().timeout(Duration.ofSeconds(2))) {
+ *     Supplier&lt;Person&gt; person = exchanges.fork(() -&gt; restClient.get().uri("/person/{id}", id)
+ *             .retrieve().body(Person.class));
+ *     Supplier&lt;List&lt;Order&gt;&gt; orders = exchanges.fork(() -&gt; orderService.getOrders(id));
+ *     exchanges.join();
+ *     return new Summary(person.get(), orders.get());
+ * }
+ * </pre>
+ *
+ * <p>An instance is meant to be used by a single thread for one group of
+ * exchanges, and is not reusable after {@link #join()} or {@link #close()}.
+ *
+ * @since 7.1
+ * @see RestClient
+ * @see org.springframework.web.service.invoker.HttpServiceProxyFactory
+ */
+public final class ParallelExchanges implements AutoCloseable {
+
+	private final AsyncTaskExecutor executor;
+
+	private @Nullable Duration timeout;
+
+	private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+
+	private final AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+
+	private volatile boolean joined;
+
+	private volatile boolean closed;
+
+
+	private ParallelExchanges(AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
+
+	/**
+	 * Set the deadline for all exchanges in this scope, measured from the
+	 * time {@link #join()} is called.
+	 * <p>By default, this is not set, in which case {@code join()} waits until
+	 * all exchanges complete, relying on the timeouts of the underlying client.
+	 * @param timeout the timeout to apply
+	 * @return this instance
+	 */
+	public ParallelExchanges timeout(Duration timeout) {
+		Assert.notNull(timeout, "Timeout must not be null");
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Start the given exchange on the executor of this scope.
+	 * @param exchange the exchange to perform
+	 * @param <T> the type of result
+	 * @return a supplier for the result, available after a successful {@link #join()}
+	 */
+	public <T extends @Nullable Object> Supplier<T> fork(Supplier<T> exchange) {
+		Assert.notNull(exchange, "Exchange must not be null");
+		Assert.state(!this.joined && !this.closed, "Exchanges already joined");
+		Future<T> future = this.executor.submit(() -> {
+			try {
+				return exchange.get();
+			}
+			catch (Throwable ex) {
+				if (this.failure.compareAndSet(null, ex)) {
+					cancelAll();
+				}
+				throw ex;
+			}
+		});
+		this.futures.add(future);
+		return () -> getResult(future);
+	}
+
+	/**
+	 * Wait for all forked exchanges to complete.
+	 * <p>If an exchange fails, the remaining exchanges are cancelled, and the
+	 * exception from the first failed exchange is propagated as is, if it is
+	 * a {@link RuntimeException}, or otherwise wrapped in a
+	 * {@link RestClientException}.
+	 * @throws RestClientException if the deadline is reached before all
+	 * exchanges have completed, or if the current thread is interrupted
+	 */
+	public void join() {
+		Assert.state(!this.joined && !this.closed, "Exchanges already joined");
+		this.joined = true;
+		long deadline = (this.timeout != null ? System.nanoTime() + this.timeout.toNanos() : 0);
+		try {
+			for (Future<?> future : this.futures) {
+				if (this.timeout != null) {
+					future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				}
+				else {
+					future.get();
+				}
+			}
+		}
+		catch (ExecutionException | CancellationException ex) {
+			cancelAll();
+			Throwable cause = this.failure.get();
+			if (cause == null) {
+				cause = (ex.getCause() != null ? ex.getCause() : ex);
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new RestClientException("Parallel exchange failed", cause);
+		}
+		catch (TimeoutException ex) {
+			cancelAll();
+			throw new RestClientException("Parallel exchanges did not complete within " + this.timeout, ex);
+		}
+		catch (InterruptedException ex) {
+			cancelAll();
+			Thread.currentThread().interrupt();
+			throw new RestClientException("Interrupted while waiting for parallel exchanges", ex);
+		}
+	}
+
+	/**
+	 * Cancel any exchange that has not completed yet, interrupting the
+	 * threads that perform them.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		cancelAll();
+	}
+
+	private void cancelAll() {
+		for (Future<?> future : this.futures) {
+			future.cancel(true);
+		}
+	}
+
+	private <T extends @Nullable Object> T getResult(Future<T> future) {
+		Assert.state(this.joined && future.isDone() && !future.isCancelled(), "Exchanges not successfully joined");
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException("Exchanges not successfully joined", ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while obtaining result", ex);
+		}
+	}
+
+
+	/**
+	 * Create a new scope that runs exchanges on virtual threads on JDK 21+,
+	 * or on a new platform thread for each exchange otherwise.
+	 */
+	public static ParallelExchanges create() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("parallel-exchange-");
+		try {
+			executor.setVirtualThreads(true);
+		}
+		catch (UnsupportedOperationException ex) {
+			// Virtual threads not supported on JDK <21: keep using platform threads
+		}
+		return new ParallelExchanges(executor);
+	}
+
+	/**
+	 * Create a new scope that runs exchanges on the given executor.
+	 * @param executor the executor to run exchanges with
+	 */
+	public static ParallelExchanges create(AsyncTaskExecutor executor) {
+		Assert.notNull(executor, "AsyncTaskExecutor must not be null");
+		return new ParallelExchanges(executor);
+	}
+
+}
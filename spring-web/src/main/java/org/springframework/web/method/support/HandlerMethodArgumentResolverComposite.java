@@ -16,6 +16,7 @@
 
 package org.springframework.web.method.support;
 
+import java.lang.reflect.Executable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 
@@ -39,17 +41,24 @@ import org.springframework.web.context.request.NativeWebRequest;
  */
 public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentResolver {
 
+	private static final HandlerMethodArgumentResolver[] EMPTY_RESOLVERS = new HandlerMethodArgumentResolver[0];
+
+
 	private final List<HandlerMethodArgumentResolver> argumentResolvers = new ArrayList<>();
 
 	private final Map<MethodParameter, HandlerMethodArgumentResolver> argumentResolverCache =
 			new ConcurrentHashMap<>(256);
 
+	private final Map<ArgumentResolversCacheKey, @Nullable HandlerMethodArgumentResolver[]> argumentResolversCache =
+			new ConcurrentReferenceHashMap<>(64);
+
 
 	/**
 	 * Add the given {@link HandlerMethodArgumentResolver}.
 	 */
 	public HandlerMethodArgumentResolverComposite addResolver(HandlerMethodArgumentResolver resolver) {
 		this.argumentResolvers.add(resolver);
+		this.argumentResolversCache.clear();
 		return this;
 	}
 
@@ -62,6 +71,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 
 		if (resolvers != null) {
 			Collections.addAll(this.argumentResolvers, resolvers);
+			this.argumentResolversCache.clear();
 		}
 		return this;
 	}
@@ -74,6 +84,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 
 		if (resolvers != null) {
 			this.argumentResolvers.addAll(resolvers);
+			this.argumentResolversCache.clear();
 		}
 		return this;
 	}
@@ -92,6 +103,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	public void clear() {
 		this.argumentResolvers.clear();
 		this.argumentResolverCache.clear();
+		this.argumentResolversCache.clear();
 	}
 
 
@@ -140,4 +152,42 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 		return result;
 	}
 
+	/**
+	 * Find the registered {@link HandlerMethodArgumentResolver HandlerMethodArgumentResolvers}
+	 * for the given parameters of a handler method, in declaration order. The resulting
+	 * array is cached per method and containing class, so that it is shared by all
+	 * {@code HandlerMethod} instances for the same method, including instances created
+	 * per request, for example, for {@code @ModelAttribute} and {@code @InitBinder} methods.
+	 * @param parameters the parameters of the handler method
+	 * @return the resolvers per parameter, with {@code null} for unsupported parameters
+	 * @since 7.1
+	 */
+	public @Nullable HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		if (parameters.length == 0) {
+			return EMPTY_RESOLVERS;
+		}
+		ArgumentResolversCacheKey key = new ArgumentResolversCacheKey(
+				parameters[0].getExecutable(), parameters[0].getContainingClass());
+		@Nullable HandlerMethodArgumentResolver @Nullable [] result = this.argumentResolversCache.get(key);
+		if (result == null) {
+			result = new HandlerMethodArgumentResolver[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				result[i] = getArgumentResolver(parameters[i]);
+			}
+			this.argumentResolversCache.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Return the number of handler methods for which resolvers are cached.
+	 */
+	int getArgumentResolversCacheSize() {
+		return this.argumentResolversCache.size();
+	}
+
+
+	private record ArgumentResolversCacheKey(Executable executable, Class<?> containingClass) {
+	}
+
 }
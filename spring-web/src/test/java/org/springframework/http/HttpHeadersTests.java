@@ -95,6 +95,24 @@ class HttpHeadersTests {
 		assertThat(writable.get("X-Project")).contains("Spring", "Framework");
 	}
 
+	@Test
+	void wellKnownHeaderNamesAreCaseInsensitive() {
+		headers.add("Content-Type", "text/plain");
+		headers.add("CONTENT-TYPE", "text/html");
+		headers.add("content-TYPE", "application/json");
+		headers.add("X-Custom", "a");
+		headers.add("x-custom", "b");
+
+		assertThat(headers.get("content-type")).containsExactly("text/plain", "text/html", "application/json");
+		assertThat(headers.get("Content-type")).containsExactly("text/plain", "text/html", "application/json");
+		assertThat(headers.get("X-CUSTOM")).containsExactly("a", "b");
+		assertThat(headers.containsHeader("ACCEPT")).isFalse();
+		assertThat(headers.size()).isEqualTo(2);
+
+		headers.remove("CONTENT-type");
+		assertThat(headers.containsHeader("Content-Type")).isFalse();
+	}
+
 	@Test
 	void getOrEmpty() {
 		String key = "FOO";
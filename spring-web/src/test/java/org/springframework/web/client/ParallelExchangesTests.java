@@ -0,0 +1,114 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.client;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ParallelExchanges}.
+ */
+class ParallelExchangesTests {
+
+	@Test
+	void join() {
+		CountDownLatch latch = new CountDownLatch(2);
+		try (ParallelExchanges exchanges = ParallelExchanges.create()) {
+			Supplier<String> foo = exchanges.fork(() -> awaitAndReturn(latch, "foo"));
+			Supplier<String> bar = exchanges.fork(() -> awaitAndReturn(latch, "bar"));
+			exchanges.join();
+
+			assertThat(foo.get()).isEqualTo("foo");
+			assertThat(bar.get()).isEqualTo("bar");
+		}
+	}
+
+	@Test
+	void joinWithFailureCancelsOtherExchanges() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		try (ParallelExchanges exchanges = ParallelExchanges.create()) {
+			Supplier<String> blocked = exchanges.fork(() -> {
+				try {
+					Thread.sleep(10_000);
+					return "blocked";
+				}
+				catch (InterruptedException ex) {
+					interrupted.countDown();
+					throw new IllegalStateException(ex);
+				}
+			});
+			exchanges.fork(() -> {
+				throw new RestClientException("Boom");
+			});
+
+			assertThatExceptionOfType(RestClientException.class).isThrownBy(exchanges::join).withMessage("Boom");
+			assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThatIllegalStateException().isThrownBy(blocked::get);
+		}
+	}
+
+	@Test
+	void joinWithTimeout() {
+		try (ParallelExchanges exchanges = ParallelExchanges.create().timeout(Duration.ofMillis(50))) {
+			exchanges.fork(() -> awaitAndReturn(new CountDownLatch(2), "foo"));
+
+			assertThatExceptionOfType(RestClientException.class).isThrownBy(exchanges::join)
+					.withMessageStartingWith("Parallel exchanges did not complete within");
+		}
+	}
+
+	@Test
+	void resultBeforeJoin() {
+		try (ParallelExchanges exchanges = ParallelExchanges.create()) {
+			Supplier<String> foo = exchanges.fork(() -> "foo");
+
+			assertThatIllegalStateException().isThrownBy(foo::get);
+		}
+	}
+
+	@Test
+	void forkAfterJoin() {
+		try (ParallelExchanges exchanges = ParallelExchanges.create()) {
+			exchanges.join();
+
+			assertThatIllegalStateException().isThrownBy(() -> exchanges.fork(() -> "foo"));
+		}
+	}
+
+
+	private static String awaitAndReturn(CountDownLatch latch, String value) {
+		latch.countDown();
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Exchanges not run concurrently");
+			}
+		}
+		catch (InterruptedException ex) {
+			throw new IllegalStateException(ex);
+		}
+		return value;
+	}
+
+}
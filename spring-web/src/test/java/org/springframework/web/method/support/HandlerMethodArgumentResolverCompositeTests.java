@@ -75,6 +75,47 @@ class HandlerMethodArgumentResolverCompositeTests {
 		assertThat(resolvedValue).as("Didn't use the first registered resolver").isEqualTo(1);
 	}
 
+	@Test
+	void getArgumentResolvers() {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		StubArgumentResolver strResolver = new StubArgumentResolver(String.class);
+		this.resolverComposite.addResolver(intResolver);
+		this.resolverComposite.addResolver(strResolver);
+		MethodParameter[] parameters = {paramInt, paramStr};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertThat(resolvers).containsExactly(intResolver, strResolver);
+		assertThat(this.resolverComposite.getArgumentResolvers(parameters)).isSameAs(resolvers);
+	}
+
+	@Test
+	void getArgumentResolversWithUnsupportedParameter() {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		this.resolverComposite.addResolver(intResolver);
+		MethodParameter[] parameters = {paramInt, paramStr};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertThat(resolvers).containsExactly(intResolver, null);
+		assertThat(this.resolverComposite.getArgumentResolvers(parameters)).isSameAs(resolvers);
+
+		StubArgumentResolver strResolver = new StubArgumentResolver(String.class);
+		this.resolverComposite.addResolver(strResolver);
+		assertThat(this.resolverComposite.getArgumentResolvers(parameters)).containsExactly(intResolver, strResolver);
+	}
+
+	@Test
+	void getArgumentResolversForSameMethodWithNewParameters() {
+		this.resolverComposite.addResolver(new StubArgumentResolver(Integer.class));
+		this.resolverComposite.addResolver(new StubArgumentResolver(String.class));
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(
+				new MethodParameter[] {paramInt, paramStr});
+		HandlerMethodArgumentResolver[] resolvers2 = this.resolverComposite.getArgumentResolvers(
+				new MethodParameter[] {new MethodParameter(paramInt), new MethodParameter(paramStr)});
+		assertThat(resolvers2).isSameAs(resolvers);
+		assertThat(this.resolverComposite.getArgumentResolversCacheSize()).isEqualTo(1);
+	}
+
 	@Test
 	void noSuitableArgumentResolver() {
 		assertThatIllegalArgumentException().isThrownBy(() ->
@@ -107,6 +107,16 @@ class InvocableHandlerMethodTests {
 		assertThat(value).isEqualTo("2-value2");
 	}
 
+	@Test
+	void resolveArgsForInstancePerInvocation() throws Exception {
+		// As for @ModelAttribute and @InitBinder methods, with a provided argument
+		this.composite.addResolver(new StubArgumentResolver("value"));
+
+		assertThat(getInvocable(Integer.class, String.class).invokeForRequest(request, null, 1)).isEqualTo("1-value");
+		assertThat(getInvocable(Integer.class, String.class).invokeForRequest(request, null, 2)).isEqualTo("2-value");
+		assertThat(this.composite.getArgumentResolversCacheSize()).isEqualTo(1);
+	}
+
 	@Test
 	void resolveHandlerMethodArgToNull() throws Exception {
 		Object value = getInvocable(HandlerMethod.class).invokeForRequest(request, null);
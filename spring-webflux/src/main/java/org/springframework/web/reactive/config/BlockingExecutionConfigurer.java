@@ -21,6 +21,7 @@ import java.util.function.Predicate;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.web.method.HandlerMethod;
 
 /**
@@ -47,6 +48,18 @@ public class BlockingExecutionConfigurer {
 		return this;
 	}
 
+	/**
+	 * Invoke blocking controller methods on virtual threads, as an alternative
+	 * to a platform thread {@linkplain #setExecutor executor}.
+	 * <p>This is a shortcut for setting a {@link VirtualThreadTaskExecutor}
+	 * with a "webflux-blocking-" thread name prefix, and requires JDK 21+.
+	 * @since 7.1
+	 */
+	public BlockingExecutionConfigurer useVirtualThreads() {
+		this.executor = new VirtualThreadTaskExecutor("webflux-blocking-");
+		return this;
+	}
+
 	/**
 	 * Configure a predicate to decide if a controller method is blocking and
 	 * should be called on a separate thread if an executor is
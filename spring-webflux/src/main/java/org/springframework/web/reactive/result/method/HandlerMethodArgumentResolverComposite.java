@@ -16,6 +16,7 @@
 
 package org.springframework.web.reactive.result.method;
 
+import java.lang.reflect.Executable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +27,7 @@ import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.reactive.BindingContext;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -37,19 +39,26 @@ import org.springframework.web.server.ServerWebExchange;
  * @author Rossen Stoyanchev
  * @since 5.1.3
  */
-class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentResolver {
+public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentResolver {
+
+	private static final HandlerMethodArgumentResolver[] EMPTY_RESOLVERS = new HandlerMethodArgumentResolver[0];
+
 
 	private final List<HandlerMethodArgumentResolver> argumentResolvers = new ArrayList<>();
 
 	private final Map<MethodParameter, HandlerMethodArgumentResolver> argumentResolverCache =
 			new ConcurrentHashMap<>(256);
 
+	private final Map<ArgumentResolversCacheKey, @Nullable HandlerMethodArgumentResolver[]> argumentResolversCache =
+			new ConcurrentReferenceHashMap<>(64);
+
 
 	/**
 	 * Add the given {@link HandlerMethodArgumentResolver}.
 	 */
 	public HandlerMethodArgumentResolverComposite addResolver(HandlerMethodArgumentResolver resolver) {
 		this.argumentResolvers.add(resolver);
+		this.argumentResolversCache.clear();
 		return this;
 	}
 
@@ -59,6 +68,7 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 	public HandlerMethodArgumentResolverComposite addResolvers(@Nullable HandlerMethodArgumentResolver... resolvers) {
 		if (resolvers != null) {
 			Collections.addAll(this.argumentResolvers, resolvers);
+			this.argumentResolversCache.clear();
 		}
 		return this;
 	}
@@ -71,6 +81,7 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 
 		if (resolvers != null) {
 			this.argumentResolvers.addAll(resolvers);
+			this.argumentResolversCache.clear();
 		}
 		return this;
 	}
@@ -88,6 +99,7 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 	public void clear() {
 		this.argumentResolvers.clear();
 		this.argumentResolverCache.clear();
+		this.argumentResolversCache.clear();
 	}
 
 
@@ -137,4 +149,42 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 		return result;
 	}
 
+	/**
+	 * Find the registered {@link HandlerMethodArgumentResolver HandlerMethodArgumentResolvers}
+	 * for the given parameters of a handler method, in declaration order. The resulting
+	 * array is cached per method and containing class, so that it is shared by all
+	 * {@code HandlerMethod} instances for the same method, including instances created
+	 * per request, for example, for {@code @ModelAttribute} and {@code @InitBinder} methods.
+	 * @param parameters the parameters of the handler method
+	 * @return the resolvers per parameter, with {@code null} for unsupported parameters
+	 * @since 7.1
+	 */
+	public @Nullable HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		if (parameters.length == 0) {
+			return EMPTY_RESOLVERS;
+		}
+		ArgumentResolversCacheKey key = new ArgumentResolversCacheKey(
+				parameters[0].getExecutable(), parameters[0].getContainingClass());
+		@Nullable HandlerMethodArgumentResolver @Nullable [] result = this.argumentResolversCache.get(key);
+		if (result == null) {
+			result = new HandlerMethodArgumentResolver[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				result[i] = getArgumentResolver(parameters[i]);
+			}
+			this.argumentResolversCache.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Return the number of handler methods for which resolvers are cached.
+	 */
+	int getArgumentResolversCacheSize() {
+		return this.argumentResolversCache.size();
+	}
+
+
+	private record ArgumentResolversCacheKey(Executable executable, Class<?> containingClass) {
+	}
+
 }
@@ -86,7 +86,9 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	private static final boolean KOTLIN_REFLECT_PRESENT = KotlinDetector.isKotlinReflectPresent();
 
 
-	private final HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
+	private HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
+
+	private boolean sharedResolvers;
 
 	private ParameterNameDiscoverer parameterNameDiscoverer = DefaultParameterNameDiscoverer.getSharedInstance();
 
@@ -117,9 +119,29 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 * argument values against a {@code ServerWebExchange}.
 	 */
 	public void setArgumentResolvers(List<? extends HandlerMethodArgumentResolver> resolvers) {
+		if (this.sharedResolvers) {
+			// Copy rather than modify a composite shared with other handler methods
+			HandlerMethodArgumentResolverComposite composite = new HandlerMethodArgumentResolverComposite();
+			composite.addResolvers(this.resolvers.getResolvers());
+			this.resolvers = composite;
+			this.sharedResolvers = false;
+		}
 		this.resolvers.addResolvers(resolvers);
 	}
 
+	/**
+	 * Variant of {@link #setArgumentResolvers(List)} that uses a pre-configured
+	 * {@link HandlerMethodArgumentResolverComposite}, typically shared across
+	 * invocations in order to reuse the resolvers previously determined per
+	 * method parameter. The given composite is not modified by this handler
+	 * method, also not through a subsequent call to {@link #setArgumentResolvers(List)}.
+	 * @since 7.1
+	 */
+	public void setHandlerMethodArgumentResolvers(HandlerMethodArgumentResolverComposite resolvers) {
+		this.resolvers = resolvers;
+		this.sharedResolvers = true;
+	}
+
 	/**
 	 * Return the configured argument resolvers.
 	 */
@@ -255,20 +277,26 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			return EMPTY_ARGS;
 		}
 
-		List<Mono<Object>> argMonos = new ArrayList<>(parameters.length);
 		for (MethodParameter parameter : parameters) {
 			parameter.initParameterNameDiscovery(this.parameterNameDiscoverer);
+		}
+		@Nullable HandlerMethodArgumentResolver[] argumentResolvers = this.resolvers.getArgumentResolvers(parameters);
+
+		List<Mono<Object>> argMonos = new ArrayList<>(parameters.length);
+		for (int i = 0; i < parameters.length; i++) {
+			MethodParameter parameter = parameters[i];
 			Object providedArg = findProvidedArgument(parameter, providedArgs);
 			if (providedArg != null) {
 				argMonos.add(Mono.just(providedArg));
 				continue;
 			}
-			if (!this.resolvers.supportsParameter(parameter)) {
+			HandlerMethodArgumentResolver resolver = argumentResolvers[i];
+			if (resolver == null) {
 				return Mono.error(new IllegalStateException(
 						formatArgumentError(parameter, "No suitable resolver")));
 			}
 			try {
-				argMonos.add(this.resolvers.resolveArgument(parameter, bindingContext, exchange)
+				argMonos.add(resolver.resolveArgument(parameter, bindingContext, exchange)
 						.defaultIfEmpty(NO_ARG_VALUE)
 						.doOnError(ex -> logArgumentErrorIfNecessary(exchange, parameter, ex)));
 			}
@@ -57,6 +57,7 @@ import org.springframework.web.method.annotation.HandlerMethodValidator;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
 import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolverComposite;
 import org.springframework.web.reactive.result.method.InvocableHandlerMethod;
 import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
 import org.springframework.web.reactive.result.method.SyncInvocableHandlerMethod;
@@ -102,11 +103,11 @@ class ControllerMethodResolver {
 
 	private final List<SyncHandlerMethodArgumentResolver> initBinderResolvers;
 
-	private final List<HandlerMethodArgumentResolver> modelAttributeResolvers;
+	private final HandlerMethodArgumentResolverComposite modelAttributeResolvers;
 
-	private final List<HandlerMethodArgumentResolver> requestMappingResolvers;
+	private final HandlerMethodArgumentResolverComposite requestMappingResolvers;
 
-	private final List<HandlerMethodArgumentResolver> exceptionHandlerResolvers;
+	private final HandlerMethodArgumentResolverComposite exceptionHandlerResolvers;
 
 	private final ReactiveAdapterRegistry reactiveAdapterRegistry;
 
@@ -148,9 +149,12 @@ class ControllerMethodResolver {
 		Assert.notNull(readers, "HttpMessageReader List is required");
 
 		this.initBinderResolvers = initBinderResolvers(customResolvers, adapterRegistry, context);
-		this.modelAttributeResolvers = modelMethodResolvers(customResolvers, adapterRegistry, context);
-		this.requestMappingResolvers = requestMappingResolvers(customResolvers, adapterRegistry, context, readers);
-		this.exceptionHandlerResolvers = exceptionHandlerResolvers(customResolvers, adapterRegistry, context);
+		this.modelAttributeResolvers = new HandlerMethodArgumentResolverComposite()
+				.addResolvers(modelMethodResolvers(customResolvers, adapterRegistry, context));
+		this.requestMappingResolvers = new HandlerMethodArgumentResolverComposite()
+				.addResolvers(requestMappingResolvers(customResolvers, adapterRegistry, context, readers));
+		this.exceptionHandlerResolvers = new HandlerMethodArgumentResolverComposite()
+				.addResolvers(exceptionHandlerResolvers(customResolvers, adapterRegistry, context));
 		this.reactiveAdapterRegistry = adapterRegistry;
 		this.contentTypeResolver = contentTypeResolver;
 		this.invocationScheduler = invocationScheduler;
@@ -158,8 +162,8 @@ class ControllerMethodResolver {
 
 		if (BEAN_VALIDATION_PRESENT) {
 			this.methodValidator = HandlerMethodValidator.from(webBindingInitializer, null,
-					methodParamPredicate(this.requestMappingResolvers, ModelAttributeMethodArgumentResolver.class),
-					methodParamPredicate(this.requestMappingResolvers, RequestParamMethodArgumentResolver.class));
+					methodParamPredicate(this.requestMappingResolvers.getResolvers(), ModelAttributeMethodArgumentResolver.class),
+					methodParamPredicate(this.requestMappingResolvers.getResolvers(), RequestParamMethodArgumentResolver.class));
 		}
 		else {
 			this.methodValidator = null;
@@ -327,7 +331,7 @@ class ControllerMethodResolver {
 	 */
 	public InvocableHandlerMethod getRequestMappingMethod(HandlerMethod handlerMethod) {
 		InvocableHandlerMethod invocable = new InvocableHandlerMethod(handlerMethod);
-		invocable.setArgumentResolvers(this.requestMappingResolvers);
+		invocable.setHandlerMethodArgumentResolvers(this.requestMappingResolvers);
 		invocable.setReactiveAdapterRegistry(this.reactiveAdapterRegistry);
 		invocable.setMethodValidator(this.methodValidator);
 		invocable.setInvocationScheduler(getSchedulerFor(handlerMethod));
@@ -396,7 +400,7 @@ class ControllerMethodResolver {
 
 	private InvocableHandlerMethod createAttributeMethod(Object bean, Method method) {
 		InvocableHandlerMethod invocable = new InvocableHandlerMethod(bean, method);
-		invocable.setArgumentResolvers(this.modelAttributeResolvers);
+		invocable.setHandlerMethodArgumentResolvers(this.modelAttributeResolvers);
 		return invocable;
 	}
 
@@ -459,7 +463,7 @@ class ControllerMethodResolver {
 
 	private InvocableHandlerMethod createInvocableHandlerMethod(Object bean, Method method) {
 		InvocableHandlerMethod invocable = new InvocableHandlerMethod(bean, method);
-		invocable.setArgumentResolvers(this.exceptionHandlerResolvers);
+		invocable.setHandlerMethodArgumentResolvers(this.exceptionHandlerResolvers);
 		return invocable;
 	}
 
@@ -51,6 +51,18 @@ class HeaderContentTypeResolverTests {
 		assertThat(mediaTypes.get(3).toString()).isEqualTo("text/plain;q=0.5");
 	}
 
+	@Test
+	void resolveMediaTypesFromCache() {
+		String header = "text/plain; q=0.5, text/html";
+		List<MediaType> mediaTypes = this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/").header("accept", header)));
+
+		assertThat(this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/").header("accept", header))))
+				.isSameAs(mediaTypes);
+		assertThat(mediaTypes).map(Object::toString).containsExactly("text/html", "text/plain;q=0.5");
+	}
+
 	@Test
 	void resolveMediaTypesParseError() {
 		String header = "textplain; q=0.5";
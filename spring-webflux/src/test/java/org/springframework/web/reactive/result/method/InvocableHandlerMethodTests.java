@@ -77,6 +77,35 @@ class InvocableHandlerMethodTests {
 		assertHandlerResultValue(mono, "success:value1");
 	}
 
+	@Test
+	void resolveArgWithSharedResolversForInstancePerInvocation() {
+		HandlerMethodArgumentResolverComposite composite = new HandlerMethodArgumentResolverComposite();
+		composite.addResolver(stubResolver("value1"));
+		Method method = ResolvableMethod.on(TestController.class).mockCall(o -> o.singleArg(null)).method();
+
+		for (int i = 0; i < 2; i++) {
+			InvocableHandlerMethod invocable = new InvocableHandlerMethod(new TestController(), method);
+			invocable.setHandlerMethodArgumentResolvers(composite);
+			assertHandlerResultValue(invocable.invoke(this.exchange, new BindingContext()), "success:value1");
+		}
+		assertThat(composite.getArgumentResolversCacheSize()).isEqualTo(1);
+	}
+
+	@Test
+	void setArgumentResolversDoesNotModifySharedResolvers() {
+		HandlerMethodArgumentResolverComposite composite = new HandlerMethodArgumentResolverComposite();
+		HandlerMethodArgumentResolver resolver = stubResolver("value1");
+		composite.addResolver(resolver);
+		Method method = ResolvableMethod.on(TestController.class).mockCall(o -> o.singleArg(null)).method();
+
+		InvocableHandlerMethod invocable = new InvocableHandlerMethod(new TestController(), method);
+		invocable.setHandlerMethodArgumentResolvers(composite);
+		invocable.setArgumentResolvers(List.of(stubResolver("value2")));
+
+		assertThat(invocable.getResolvers()).hasSize(2);
+		assertThat(composite.getResolvers()).containsExactly(resolver);
+	}
+
 	@Test
 	void resolveArgOnSchedulerThread() {
 		this.resolvers.add(stubResolver(Mono.<Object>just("success").publishOn(Schedulers.newSingle("wrong"))));
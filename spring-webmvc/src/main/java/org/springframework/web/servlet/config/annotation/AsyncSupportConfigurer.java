@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 
@@ -27,6 +28,7 @@ import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.web.context.request.async.CallableProcessingInterceptor;
 import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
 
 /**
  * Helps with configuring options for asynchronous request processing.
@@ -44,6 +46,10 @@ public class AsyncSupportConfigurer {
 
 	private final List<DeferredResultProcessingInterceptor> deferredResultInterceptors = new ArrayList<>();
 
+	private @Nullable AsyncTaskExecutor blockingExecutor;
+
+	private @Nullable Predicate<HandlerMethod> blockingControllerMethodPredicate;
+
 
 	/**
 	 * The provided task executor is used for the following:
@@ -99,6 +105,37 @@ public class AsyncSupportConfigurer {
 		return this;
 	}
 
+	/**
+	 * Configure an executor to invoke blocking controller methods with, for
+	 * example, a {@link org.springframework.core.task.VirtualThreadTaskExecutor}.
+	 * Controller methods matched by the {@linkplain
+	 * #setBlockingControllerMethodPredicate predicate} are invoked through
+	 * async request processing, releasing the container thread while they block.
+	 * <p>By default, this is not set in which case controller methods are
+	 * invoked on the container thread.
+	 * @param executor the task executor to use
+	 * @since 7.1
+	 */
+	public AsyncSupportConfigurer setBlockingExecutor(AsyncTaskExecutor executor) {
+		this.blockingExecutor = executor;
+		return this;
+	}
+
+	/**
+	 * Configure a predicate to decide if a controller method is blocking and
+	 * should be called on a separate thread if an executor is
+	 * {@linkplain #setBlockingExecutor configured}.
+	 * <p>Controller methods whose return type is handled asynchronously already
+	 * are never matched. By default, this is not set in which case no controller
+	 * methods are invoked on the blocking executor.
+	 * @param predicate the predicate to use
+	 * @since 7.1
+	 */
+	public AsyncSupportConfigurer setBlockingControllerMethodPredicate(Predicate<HandlerMethod> predicate) {
+		this.blockingControllerMethodPredicate = predicate;
+		return this;
+	}
+
 
 	protected @Nullable AsyncTaskExecutor getTaskExecutor() {
 		return this.taskExecutor;
@@ -116,4 +153,12 @@ public class AsyncSupportConfigurer {
 		return this.deferredResultInterceptors;
 	}
 
+	protected @Nullable AsyncTaskExecutor getBlockingExecutor() {
+		return this.blockingExecutor;
+	}
+
+	protected @Nullable Predicate<HandlerMethod> getBlockingControllerMethodPredicate() {
+		return this.blockingControllerMethodPredicate;
+	}
+
 }
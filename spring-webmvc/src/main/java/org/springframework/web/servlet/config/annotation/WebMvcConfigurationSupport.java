@@ -682,6 +682,12 @@ public class WebMvcConfigurationSupport implements ApplicationContextAware, Serv
 		}
 		adapter.setCallableInterceptors(configurer.getCallableInterceptors());
 		adapter.setDeferredResultInterceptors(configurer.getDeferredResultInterceptors());
+		if (configurer.getBlockingExecutor() != null) {
+			adapter.setBlockingExecutor(configurer.getBlockingExecutor());
+		}
+		if (configurer.getBlockingControllerMethodPredicate() != null) {
+			adapter.setBlockingMethodPredicate(configurer.getBlockingControllerMethodPredicate());
+		}
 
 		return adapter;
 	}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
@@ -39,17 +40,21 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.MethodIntrospector;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.log.LogFormatUtils;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -73,9 +78,13 @@ import org.springframework.web.bind.support.SessionAttributeStore;
 import org.springframework.web.bind.support.WebBindingInitializer;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.async.AsyncWebRequest;
 import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
 import org.springframework.web.context.request.async.WebAsyncManager;
 import org.springframework.web.context.request.async.WebAsyncTask;
@@ -181,6 +190,10 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private DeferredResultProcessingInterceptor[] deferredResultInterceptors = new DeferredResultProcessingInterceptor[0];
 
+	private @Nullable AsyncTaskExecutor blockingExecutor;
+
+	private @Nullable Predicate<HandlerMethod> blockingMethodPredicate;
+
 	private ReactiveAdapterRegistry reactiveAdapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
 
 	private int cacheSecondsForSessionAttributeHandlers = 0;
@@ -450,6 +463,47 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		this.deferredResultInterceptors = interceptors.toArray(new DeferredResultProcessingInterceptor[0]);
 	}
 
+	/**
+	 * Configure an executor to invoke blocking controller methods with, for
+	 * example, a {@link org.springframework.core.task.VirtualThreadTaskExecutor}
+	 * in order to let such methods block without holding on to a container thread.
+	 * <p>Controller methods matched by the {@link #setBlockingMethodPredicate
+	 * blockingMethodPredicate} are invoked through Servlet async request
+	 * processing, just like a controller method returning a {@link Callable}
+	 * (including the registered {@link #setCallableInterceptors interceptors}),
+	 * with the request and locale context of the current request exposed, and
+	 * with the return value handled once the request is dispatched back to
+	 * the container. Requests that do not support async processing are
+	 * still handled on the container thread.
+	 * <p>By default, this is not set in which case controller methods are
+	 * invoked on the container thread.
+	 * @param executor the task executor to use
+	 * @since 7.1
+	 * @see #setBlockingMethodPredicate
+	 */
+	public void setBlockingExecutor(@Nullable AsyncTaskExecutor executor) {
+		this.blockingExecutor = executor;
+	}
+
+	/**
+	 * Provide a predicate to decide which controller methods to invoke through
+	 * the configured {@link #setBlockingExecutor blockingExecutor}, for example,
+	 * based on an annotation on the method or on the controller class.
+	 * <p>Controller methods whose return type is handled asynchronously already
+	 * are never matched, i.e. a {@link Callable}, {@link WebAsyncTask},
+	 * {@code DeferredResult}, {@link java.util.concurrent.CompletionStage},
+	 * {@code ResponseBodyEmitter}, {@code StreamingResponseBody}, a type
+	 * recognized by the configured {@link #setReactiveAdapterRegistry
+	 * ReactiveAdapterRegistry}, or a Kotlin suspending function.
+	 * <p>By default, this is not set in which case no controller methods are
+	 * invoked through the blocking executor.
+	 * @param predicate the predicate to use
+	 * @since 7.1
+	 */
+	public void setBlockingMethodPredicate(@Nullable Predicate<HandlerMethod> predicate) {
+		this.blockingMethodPredicate = predicate;
+	}
+
 	/**
 	 * Configure the registry for reactive library types to be supported as
 	 * return values from controller methods.
@@ -932,7 +986,14 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 				String formatted = LogFormatUtils.formatValue(result, !traceOn);
 				return "Resume with async result [" + formatted + "]";
 			});
-			invocableMethod = invocableMethod.wrapConcurrentResult(result);
+			invocableMethod = (result instanceof ServletInvocableHandlerMethod.BlockingResult blockingResult ?
+					invocableMethod.wrapBlockingResult(blockingResult) : invocableMethod.wrapConcurrentResult(result));
+		}
+		else if (isBlockingHandlerMethod(handlerMethod, request)) {
+			Assert.state(this.blockingExecutor != null, "No blocking executor");
+			Callable<Object> callable = createBlockingCallable(invocableMethod, webRequest, mavContainer);
+			asyncManager.startCallableProcessing(new WebAsyncTask<>(null, this.blockingExecutor, callable), mavContainer);
+			return null;
 		}
 
 		invocableMethod.invokeAndHandle(webRequest, mavContainer);
@@ -1038,6 +1099,60 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		return new ServletRequestDataBinderFactory(binderMethods, getWebBindingInitializer());
 	}
 
+	/**
+	 * Whether the given handler method is to be invoked through the configured
+	 * {@link #setBlockingExecutor blocking executor}.
+	 */
+	private boolean isBlockingHandlerMethod(HandlerMethod handlerMethod, HttpServletRequest request) {
+		return (this.blockingExecutor != null && this.blockingMethodPredicate != null &&
+				request.isAsyncSupported() && !isAsyncHandlerMethod(handlerMethod) &&
+				this.blockingMethodPredicate.test(handlerMethod));
+	}
+
+	/**
+	 * Whether the return value of the given handler method is handled
+	 * asynchronously already, or the method is a suspending function.
+	 */
+	private boolean isAsyncHandlerMethod(HandlerMethod handlerMethod) {
+		MethodParameter returnType = handlerMethod.getReturnType();
+		Class<?> type = returnType.getParameterType();
+		if (HttpEntity.class.isAssignableFrom(type)) {
+			type = ResolvableType.forMethodParameter(returnType).getGeneric().toClass();
+		}
+		return (Callable.class.isAssignableFrom(type) || WebAsyncTask.class.isAssignableFrom(type) ||
+				DeferredResult.class.isAssignableFrom(type) || CompletionStage.class.isAssignableFrom(type) ||
+				ResponseBodyEmitter.class.isAssignableFrom(type) ||
+				StreamingResponseBody.class.isAssignableFrom(type) ||
+				this.reactiveAdapterRegistry.getAdapter(type) != null ||
+				KotlinDetector.isSuspendingFunction(handlerMethod.getMethod()));
+	}
+
+	/**
+	 * Create a Callable that invokes the given handler method on the blocking
+	 * executor, exposing the request and locale context of the current request.
+	 */
+	private Callable<Object> createBlockingCallable(ServletInvocableHandlerMethod invocableMethod,
+			ServletWebRequest webRequest, ModelAndViewContainer mavContainer) {
+
+		LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+		return () -> {
+			LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+			RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+			ServletRequestAttributes requestAttributes =
+					new ServletRequestAttributes(webRequest.getRequest(), webRequest.getResponse());
+			LocaleContextHolder.setLocaleContext(localeContext);
+			RequestContextHolder.setRequestAttributes(requestAttributes);
+			try {
+				return invocableMethod.invokeForBlockingResult(webRequest, mavContainer);
+			}
+			finally {
+				LocaleContextHolder.setLocaleContext(previousLocaleContext);
+				RequestContextHolder.setRequestAttributes(previousAttributes);
+				requestAttributes.requestCompleted();
+			}
+		};
+	}
+
 	private @Nullable ModelAndView getModelAndView(ModelAndViewContainer mavContainer,
 			ModelFactory modelFactory, NativeWebRequest webRequest) throws Exception {
 
@@ -116,9 +116,33 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 
 		Object returnValue = invokeForRequest(webRequest, mavContainer, providedArgs);
 		setResponseStatus(webRequest);
+		handleReturnValue(returnValue, isRequestNotModified(webRequest), webRequest, mavContainer);
+	}
+
+	/**
+	 * Invoke the method on behalf of a blocking executor, setting the response
+	 * status, and capturing the state of the current request for the return
+	 * value to be handled once the request is dispatched back to the container.
+	 * @since 7.1
+	 * @see #wrapBlockingResult(BlockingResult)
+	 */
+	BlockingResult invokeForBlockingResult(ServletWebRequest webRequest, ModelAndViewContainer mavContainer)
+			throws Exception {
+
+		Object returnValue = invokeForRequest(webRequest, mavContainer);
+		setResponseStatus(webRequest);
+		return new BlockingResult(returnValue, isRequestNotModified(webRequest));
+	}
+
+	/**
+	 * Handle the return value from invoking the method, unless the request
+	 * has been handled already, or is not modified.
+	 */
+	void handleReturnValue(@Nullable Object returnValue, boolean notModified,
+			ServletWebRequest webRequest, ModelAndViewContainer mavContainer) throws Exception {
 
 		if (returnValue == null) {
-			if (isRequestNotModified(webRequest) || getResponseStatus() != null || mavContainer.isRequestHandled()) {
+			if (notModified || getResponseStatus() != null || mavContainer.isRequestHandled()) {
 				disableContentCachingIfNecessary(webRequest);
 				mavContainer.setRequestHandled(true);
 				return;
@@ -203,6 +227,18 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 		return new ConcurrentResultHandlerMethod(result, new ConcurrentResultMethodParameter(result));
 	}
 
+	/**
+	 * Variant of {@link #wrapConcurrentResult(Object)} for the result of
+	 * invoking this handler method itself on a separate thread, exposing the
+	 * declared return type of the controller method rather than the generic
+	 * type within an async return type.
+	 * @since 7.1
+	 * @see #invokeForBlockingResult(ServletWebRequest, ModelAndViewContainer)
+	 */
+	ServletInvocableHandlerMethod wrapBlockingResult(BlockingResult result) {
+		return new BlockingResultHandlerMethod(result);
+	}
+
 
 	/**
 	 * A nested subclass of {@code ServletInvocableHandlerMethod} that uses a
@@ -266,6 +302,32 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 	}
 
 
+	/**
+	 * A {@code ConcurrentResultHandlerMethod} for the result of invoking the
+	 * controller method on a blocking executor, where the response status
+	 * has been set already, and with the "not modified" state of the request
+	 * on which the controller method was invoked.
+	 */
+	private class BlockingResultHandlerMethod extends ConcurrentResultHandlerMethod {
+
+		private final boolean notModified;
+
+		public BlockingResultHandlerMethod(BlockingResult result) {
+			super(result.returnValue(),
+					ServletInvocableHandlerMethod.this.new ConcurrentResultMethodParameter(result.returnValue(), true));
+			this.notModified = result.notModified();
+		}
+
+		@Override
+		public void invokeAndHandle(ServletWebRequest webRequest, ModelAndViewContainer mavContainer,
+				@Nullable Object... providedArgs) throws Exception {
+
+			Object returnValue = invokeForRequest(webRequest, mavContainer, providedArgs);
+			handleReturnValue(returnValue, this.notModified, webRequest, mavContainer);
+		}
+	}
+
+
 	/**
 	 * MethodParameter subclass based on the actual return value type or if
 	 * that's null falling back on the generic type within the declared async
@@ -278,11 +340,15 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 		private final ResolvableType returnType;
 
 		public ConcurrentResultMethodParameter(@Nullable Object returnValue) {
+			this(returnValue, false);
+		}
+
+		public ConcurrentResultMethodParameter(@Nullable Object returnValue, boolean declaredReturnType) {
 			super(-1);
 			this.returnValue = returnValue;
 			this.returnType = (returnValue instanceof CollectedValuesList cvList ?
 					cvList.getReturnType() :
-					KotlinDetector.isSuspendingFunction(super.getMethod()) ?
+					declaredReturnType || KotlinDetector.isSuspendingFunction(super.getMethod()) ?
 					ResolvableType.forMethodParameter(getReturnType()) :
 					ResolvableType.forType(super.getGenericParameterType()).getGeneric());
 		}
@@ -324,4 +390,14 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 		}
 	}
 
+
+	/**
+	 * The result of invoking a controller method on a blocking executor.
+	 * @param returnValue the value returned from the controller method
+	 * @param notModified whether the request was found to be "not modified"
+	 * @since 7.1
+	 */
+	record BlockingResult(@Nullable Object returnValue, boolean notModified) {
+	}
+
 }
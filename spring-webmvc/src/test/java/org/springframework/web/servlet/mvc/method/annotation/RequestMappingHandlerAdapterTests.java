@@ -26,16 +26,22 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.http.HttpServletRequest;
 import org.apache.groovy.util.Maps;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -53,8 +59,13 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.SessionAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
 import org.springframework.web.context.request.async.WebAsyncManager;
 import org.springframework.web.context.request.async.WebAsyncUtils;
@@ -221,6 +232,92 @@ class RequestMappingHandlerAdapterTests {
 		assertThat(this.response.getContentAsString()).isEqualTo("data:event 1\n\ndata:event 2\n\n");
 	}
 
+	@Test
+	void blockingExecutor() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new TestController(), "handleThreadName");
+		this.handlerAdapter.setBlockingExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		this.handlerAdapter.setBlockingMethodPredicate(method -> true);
+		this.handlerAdapter.afterPropertiesSet();
+
+		handleOnBlockingExecutor(handlerMethod);
+
+		assertThat(this.response.getStatus()).isEqualTo(200);
+		assertThat(this.response.getContentAsString()).startsWith("blocking-");
+	}
+
+	@Test
+	void blockingExecutorWithoutPredicate() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new TestController(), "handleThreadName");
+		this.handlerAdapter.setBlockingExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		this.handlerAdapter.afterPropertiesSet();
+
+		this.request.setAsyncSupported(true);
+		this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+
+		// Handled on the current thread unless matched by a predicate
+		assertThat(this.request.isAsyncStarted()).isFalse();
+		assertThat(this.response.getContentAsString()).isEqualTo(Thread.currentThread().getName());
+	}
+
+	@Test
+	void blockingExecutorWithAsyncReturnValue() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new TestController(), "handleDeferredResult");
+		this.handlerAdapter.setBlockingExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		this.handlerAdapter.setBlockingMethodPredicate(method -> true);
+		this.handlerAdapter.afterPropertiesSet();
+
+		this.request.setAsyncSupported(true);
+		this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+
+		// Handled as DeferredResult rather than through the blocking executor
+		assertThat(this.request.isAsyncStarted()).isTrue();
+		assertThat(WebAsyncUtils.getAsyncManager(this.request).getConcurrentResult()).isEqualTo("deferred");
+	}
+
+	@Test
+	void blockingExecutorExposesRequestAndLocaleContext() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new TestController(), "handleRequestContext");
+		this.handlerAdapter.setBlockingExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		this.handlerAdapter.setBlockingMethodPredicate(method -> true);
+		this.handlerAdapter.afterPropertiesSet();
+
+		this.request.setRequestURI("/path");
+		LocaleContextHolder.setLocale(Locale.FRENCH);
+		try {
+			handleOnBlockingExecutor(handlerMethod);
+		}
+		finally {
+			LocaleContextHolder.resetLocaleContext();
+		}
+
+		assertThat(this.response.getContentAsString()).isEqualTo("/path fr");
+	}
+
+	@Test
+	void blockingExecutorWithResponseStatus() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new TestController(), "handleWithResponseStatus");
+		this.handlerAdapter.setBlockingExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		this.handlerAdapter.setBlockingMethodPredicate(method -> true);
+		this.handlerAdapter.afterPropertiesSet();
+
+		assertThat(handleOnBlockingExecutor(handlerMethod)).isNull();
+		assertThat(this.response.getStatus()).isEqualTo(HttpStatus.ACCEPTED.value());
+	}
+
+	@Test
+	void blockingExecutorWithNotModified() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new TestController(), "handleNotModified", WebRequest.class);
+		this.handlerAdapter.setBlockingExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		this.handlerAdapter.setBlockingMethodPredicate(method -> true);
+		this.handlerAdapter.afterPropertiesSet();
+
+		this.request.addHeader("If-Modified-Since", TestController.LAST_MODIFIED);
+
+		// Request handled, without a view to render
+		assertThat(handleOnBlockingExecutor(handlerMethod)).isNull();
+		assertThat(this.response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+	}
+
 	@Test
 	void modelAttributeAdvice() throws Exception {
 		this.webAppContext.registerSingleton("maa", ModelAttributeAdvice.class);
@@ -333,6 +430,20 @@ class RequestMappingHandlerAdapterTests {
 				.isInstanceOf(AsyncRequestNotUsableException.class);
 	}
 
+	private @Nullable ModelAndView handleOnBlockingExecutor(HandlerMethod handlerMethod) throws Exception {
+		this.request.setAsyncSupported(true);
+
+		CountDownLatch latch = new CountDownLatch(1);
+		assertThat(this.handlerAdapter.handle(this.request, this.response, handlerMethod)).isNull();
+		assertThat(this.request.isAsyncStarted()).isTrue();
+		((MockAsyncContext) this.request.getAsyncContext()).addDispatchHandler(latch::countDown);
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// Dispatch back to the container to handle the return value
+		this.request.setAsyncStarted(false);
+		return this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+	}
+
 	private HandlerMethod handlerMethod(Object handler, String methodName, Class<?>... paramTypes) throws Exception {
 		Method method = handler.getClass().getDeclaredMethod(methodName, paramTypes);
 		return new InvocableHandlerMethod(handler, method);
@@ -348,6 +459,8 @@ class RequestMappingHandlerAdapterTests {
 	@SuppressWarnings("unused")
 	private static class TestController {
 
+		static final long LAST_MODIFIED = 1_000_000L;
+
 		@ModelAttribute
 		public void addAttributes(Model model) {
 			model.addAttribute("attr1", "lAttr1");
@@ -373,6 +486,36 @@ class RequestMappingHandlerAdapterTests {
 		public void handleOutputStream(OutputStream outputStream) throws IOException {
 			outputStream.write("body".getBytes(StandardCharsets.UTF_8));
 		}
+
+		@ResponseBody
+		public String handleThreadName() {
+			return Thread.currentThread().getName();
+		}
+
+		@ResponseBody
+		public String handleRequestContext() {
+			ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+			HttpServletRequest request = attributes.getRequest();
+			return request.getRequestURI() + " " + LocaleContextHolder.getLocale();
+		}
+
+		@ResponseStatus(HttpStatus.ACCEPTED)
+		public void handleWithResponseStatus() {
+		}
+
+		public String handleNotModified(WebRequest request) {
+			if (request.checkNotModified(LAST_MODIFIED)) {
+				return null;
+			}
+			return "view";
+		}
+
+		@ResponseBody
+		public DeferredResult<String> handleDeferredResult() {
+			DeferredResult<String> result = new DeferredResult<>();
+			result.setResult("deferred");
+			return result;
+		}
 	}
 
 
@@ -17,12 +17,17 @@
 package org.springframework.web.socket.handler;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,6 +46,11 @@ import org.springframework.web.socket.WebSocketSession;
  * buffered instead. At that time, the specified buffer-size limit and send-time
  * limit will be checked, and the session will be closed if the limits are exceeded.
  *
+ * <p>Optionally, a {@link #setCoalescingKeyResolver coalescing key} can be
+ * resolved for messages, in which case a buffered message that has not been
+ * sent yet is replaced by a newer message with the same key, for example, to
+ * only send the latest price of a stock to a slow client.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @since 4.0.3
@@ -58,18 +68,29 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 
 	private @Nullable Consumer<WebSocketMessage<?>> preSendCallback;
 
+	private @Nullable Function<WebSocketMessage<?>, @Nullable Object> coalescingKeyResolver;
+
 
-	private final Queue<WebSocketMessage<?>> buffer = new LinkedBlockingQueue<>();
+	private final Queue<BufferedMessage> buffer = new ConcurrentLinkedQueue<>();
+
+	// coalescing key -> buffered message not sent yet
+	private final Map<Object, BufferedMessage> coalescingMessages = new ConcurrentHashMap<>();
 
 	private final AtomicInteger bufferSize = new AtomicInteger();
 
+	private final AtomicInteger bufferedMessageCount = new AtomicInteger();
+
 	private volatile long sendStartTime;
 
+	private volatile long lastSendDuration;
+
+	private volatile long maxSendDuration;
+
 	private volatile boolean limitExceeded;
 
 	private volatile boolean closeInProgress;
 
-	private final Lock flushLock = new ReentrantLock();
+	private final AtomicBoolean flushInProgress = new AtomicBoolean();
 
 	private final Lock closeLock = new ReentrantLock();
 
@@ -134,6 +155,32 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 		return this.bufferSize.get();
 	}
 
+	/**
+	 * Return the current number of buffered messages.
+	 * @since 7.1
+	 */
+	public int getBufferedMessageCount() {
+		return this.bufferedMessageCount.get();
+	}
+
+	/**
+	 * Return the time (milliseconds) that the most recently completed send
+	 * took, or 0 if no send has completed yet.
+	 * @since 7.1
+	 */
+	public long getLastSendDuration() {
+		return this.lastSendDuration;
+	}
+
+	/**
+	 * Return the longest time (milliseconds) that a completed send took,
+	 * or 0 if no send has completed yet.
+	 * @since 7.1
+	 */
+	public long getMaxSendDuration() {
+		return this.maxSendDuration;
+	}
+
 	/**
 	 * Return the time (milliseconds) since the current send started,
 	 * or 0 if no send is currently in progress.
@@ -152,6 +199,18 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 		this.preSendCallback = callback;
 	}
 
+	/**
+	 * Set a function to resolve the key to coalesce buffered messages by.
+	 * A message with a non-null key replaces a buffered message with the
+	 * same key that has not been sent yet, taking its place in the buffer.
+	 * <p>By default this is not set, and all messages are sent.
+	 * @param coalescingKeyResolver the function to resolve the key with
+	 * @since 7.1
+	 */
+	public void setCoalescingKeyResolver(Function<WebSocketMessage<?>, @Nullable Object> coalescingKeyResolver) {
+		this.coalescingKeyResolver = coalescingKeyResolver;
+	}
+
 
 	@Override
 	public void sendMessage(WebSocketMessage<?> message) throws IOException {
@@ -159,8 +218,16 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 			return;
 		}
 
-		this.buffer.add(message);
-		this.bufferSize.addAndGet(message.getPayloadLength());
+		Object key = (this.coalescingKeyResolver != null ? this.coalescingKeyResolver.apply(message) : null);
+		if (key == null || !coalesce(key, message)) {
+			BufferedMessage bufferedMessage = new BufferedMessage(message, key);
+			if (key != null) {
+				this.coalescingMessages.put(key, bufferedMessage);
+			}
+			this.buffer.add(bufferedMessage);
+			this.bufferSize.addAndGet(message.getPayloadLength());
+			this.bufferedMessageCount.incrementAndGet();
+		}
 
 		if (this.preSendCallback != null) {
 			this.preSendCallback.accept(message);
@@ -184,23 +251,62 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 		return (this.limitExceeded || this.closeInProgress);
 	}
 
+	/**
+	 * Replace a buffered message with the same coalescing key, if any.
+	 * @return whether the given message took the place of a buffered message
+	 */
+	private boolean coalesce(Object key, WebSocketMessage<?> message) {
+		BufferedMessage bufferedMessage = this.coalescingMessages.get(key);
+		if (bufferedMessage != null) {
+			WebSocketMessage<?> replaced = bufferedMessage.replace(message);
+			if (replaced != null) {
+				this.bufferSize.addAndGet(message.getPayloadLength() - replaced.getPayloadLength());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private @Nullable WebSocketMessage<?> pollMessage() {
+		while (true) {
+			BufferedMessage bufferedMessage = this.buffer.poll();
+			if (bufferedMessage == null) {
+				return null;
+			}
+			WebSocketMessage<?> message = bufferedMessage.take();
+			if (bufferedMessage.key != null) {
+				this.coalescingMessages.remove(bufferedMessage.key, bufferedMessage);
+			}
+			if (message != null) {
+				this.bufferSize.addAndGet(-message.getPayloadLength());
+				this.bufferedMessageCount.decrementAndGet();
+				return message;
+			}
+		}
+	}
+
 	private boolean tryFlushMessageBuffer() throws IOException {
-		if (this.flushLock.tryLock()) {
+		if (this.flushInProgress.compareAndSet(false, true)) {
 			try {
-				while (true) {
-					WebSocketMessage<?> message = this.buffer.poll();
-					if (message == null || shouldNotSend()) {
+				while (!shouldNotSend()) {
+					WebSocketMessage<?> message = pollMessage();
+					if (message == null) {
 						break;
 					}
-					this.bufferSize.addAndGet(-message.getPayloadLength());
-					this.sendStartTime = System.currentTimeMillis();
+					long startTime = System.currentTimeMillis();
+					this.sendStartTime = startTime;
 					getDelegate().sendMessage(message);
 					this.sendStartTime = 0;
+					long duration = System.currentTimeMillis() - startTime;
+					this.lastSendDuration = duration;
+					if (duration > this.maxSendDuration) {
+						this.maxSendDuration = duration;
+					}
 				}
 			}
 			finally {
 				this.sendStartTime = 0;
-				this.flushLock.unlock();
+				this.flushInProgress.set(false);
 			}
 			return true;
 		}
@@ -225,11 +331,10 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 						case DROP -> {
 							int i = 0;
 							while (getBufferSize() > getBufferSizeLimit()) {
-								WebSocketMessage<?> message = this.buffer.poll();
+								WebSocketMessage<?> message = pollMessage();
 								if (message == null) {
 									break;
 								}
-								this.bufferSize.addAndGet(-message.getPayloadLength());
 								i++;
 							}
 							if (logger.isDebugEnabled()) {
@@ -290,6 +395,43 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 	}
 
 
+	/**
+	 * Holder for a buffered message that can be replaced by a newer message
+	 * with the same coalescing key until it is taken from the buffer.
+	 */
+	private static final class BufferedMessage {
+
+		private final AtomicReference<@Nullable WebSocketMessage<?>> message;
+
+		private final @Nullable Object key;
+
+		BufferedMessage(WebSocketMessage<?> message, @Nullable Object key) {
+			this.message = new AtomicReference<>(message);
+			this.key = key;
+		}
+
+		/**
+		 * Replace the message, unless already taken.
+		 * @return the replaced message, or {@code null} if already taken
+		 */
+		public @Nullable WebSocketMessage<?> replace(WebSocketMessage<?> newMessage) {
+			while (true) {
+				WebSocketMessage<?> current = this.message.get();
+				if (current == null) {
+					return null;
+				}
+				if (this.message.compareAndSet(current, newMessage)) {
+					return current;
+				}
+			}
+		}
+
+		public @Nullable WebSocketMessage<?> take() {
+			return this.message.getAndSet(null);
+		}
+	}
+
+
 	/**
 	 * Enum for options of what to do when the buffer fills up.
 	 * @since 5.1
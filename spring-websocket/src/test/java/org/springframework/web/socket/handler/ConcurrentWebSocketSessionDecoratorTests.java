@@ -151,6 +151,28 @@ class ConcurrentWebSocketSessionDecoratorTests {
 		assertThat(session.isOpen()).isTrue();
 	}
 
+	@Test
+	void coalesceBufferedMessages() throws IOException, InterruptedException {
+
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setId("123");
+		session.setOpen(true);
+
+		ConcurrentWebSocketSessionDecorator decorator =
+				new ConcurrentWebSocketSessionDecorator(session, 10*1000, 1024);
+		decorator.setCoalescingKeyResolver(message -> ((String) message.getPayload()).substring(0, 1));
+
+		sendBlockingMessage(decorator);
+
+		decorator.sendMessage(new TextMessage("a1"));
+		decorator.sendMessage(new TextMessage("b1"));
+		decorator.sendMessage(new TextMessage("a22"));
+
+		assertThat(decorator.getBufferedMessageCount()).isEqualTo(2);
+		assertThat(decorator.getBufferSize()).isEqualTo(5);
+		assertThat(session.isOpen()).isTrue();
+	}
+
 	@Test
 	void closeStatusNormal() throws Exception {
 